@@ -0,0 +1,42 @@
+package branch_and_bound;
+
+/**
+ * This class gives the instances measured by the benchmarks of the solver hot paths
+ *
+ * The benchmarks are run with JMH, each one in its own forked JVM,
+ * so the profile collected by the JIT compiler on a benchmark
+ * does not affect the code compiled for the next one
+ * The sources in bench are compiled with the JMH annotation processor (lib/jmh-generator-annprocess),
+ * which generates the measurement code next to the classes
+ *
+ * Usage: java -cp <classes>:lib/* org.openjdk.jmh.Main [regexp] [options]
+ *   -p instance=<name,...>  the instances: a sheet of the dataset, or a number of jobs
+ *                           for an instance generated with R = 1.0 and seed 1
+ *   -p dataset=<path>       the dataset with the instances (default dataset/instances.xlsx)
+ *   -rf csv -rff <file>     write the results in a CSV file too
+ * See java org.openjdk.jmh.Main -h for the other options (forks, iterations, threads, ...)
+ */
+final class BenchmarkInstances {
+
+    private BenchmarkInstances() {
+    }
+
+    /**
+     * Get an instance
+     * @param dataset the dataset with the instances
+     * @param name the name of a sheet of the dataset, or the number of jobs of a generated instance
+     * @return the instance
+     * @throws IllegalArgumentException if the dataset has no instance with that name
+     */
+    static Instance load(String dataset, String name) {
+        if (name.matches("\\d+")) {
+            return new InstanceGenerator(1.0, 1).generate(Integer.parseInt(name), 0);
+        }
+        for (Instance instance : new Dataset().streamFile(dataset, 0)) {
+            if (instance.getName().equals(name)) {
+                return instance;
+            }
+        }
+        throw new IllegalArgumentException("No instance " + name + " in " + dataset);
+    }
+}
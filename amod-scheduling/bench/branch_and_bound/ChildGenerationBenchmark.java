@@ -0,0 +1,92 @@
+package branch_and_bound;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures the generation of the children of a node:
+ * for every job not yet scheduled a child is taken from the node pool,
+ * initialized and bounded (inheriting the relaxation of the parent when possible),
+ * then given back to the pool
+ * It is the work done by the search for every expanded node,
+ * without the dominance rules and the state table
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class ChildGenerationBenchmark {
+    /**
+     * The number of different parents expanded in turn
+     */
+    private static final int SAMPLES = 64;
+
+    @Param("dataset/instances.xlsx")
+    public String dataset;
+
+    @Param({"Sheet2", "Sheet4", "Sheet6"})
+    public String instance;
+
+    /**
+     * The depth of the parents, as a fraction of the number of jobs
+     */
+    @Param({"0.25", "0.5"})
+    public double depth;
+
+    private TreeNode[] parents;
+
+    private SolveContext context;
+
+    private SrptKernel kernel;
+
+    private NodePool nodePool;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SolveContext(BenchmarkInstances.load(dataset, instance));
+        kernel = SrptKernel.forCurrentThread(context);
+        nodePool = NodePool.forCurrentThread();
+        parents = new TreeNode[SAMPLES];
+        Random random = new Random(1);
+        int k = (int) (context.getNumberOfJobs() * depth);
+        for (int s = 0; s < SAMPLES; s++) {
+            parents[s] = RandomNodes.build(context, k, random);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public long childGeneration() {
+        TreeNode parent = parents[next];
+        next = (next + 1) % SAMPLES;
+        // The relaxation of the parent is shared by the children which inherit it
+        kernel.loadScheduledJobs(parent);
+        parent.calculateLowerBound(kernel, -1);
+        long sum = 0;
+        JobSet scheduledJobs = kernel.getScheduledJobs();
+        for (int jobId = scheduledJobs.nextAbsent(1); jobId != -1; jobId = scheduledJobs.nextAbsent(jobId + 1)) {
+            TreeNode child = nodePool.acquire();
+            child.initChild(parent, jobId, DominanceRule.startInstant(context, parent, jobId));
+            child.calculateLowerBound(kernel);
+            sum += child.getLowerBound();
+            nodePool.release(child);
+        }
+        return sum;
+    }
+}
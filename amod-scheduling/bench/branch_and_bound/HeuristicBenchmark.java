@@ -0,0 +1,62 @@
+package branch_and_bound;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures a heuristic of the portfolio, which gives the first upper bound
+ * The heuristic is chosen by its name (see Heuristic.portfolio())
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class HeuristicBenchmark {
+
+    @Param("dataset/instances.xlsx")
+    public String dataset;
+
+    @Param({"Sheet2", "Sheet4", "Sheet6"})
+    public String instance;
+
+    @Param({"lower index first", "lower release time first", "lower processing time first",
+            "lower processing time among released first", "earliest completion time", "APRTF",
+            "look-ahead (weight 0.5)", "look-ahead (weight 1.0)", "look-ahead (weight 2.0)",
+            "random restart (100 restarts)"})
+    public String heuristic;
+
+    private Instance loadedInstance;
+
+    private Heuristic loadedHeuristic;
+
+    @Setup
+    public void setUp() {
+        loadedInstance = BenchmarkInstances.load(dataset, instance);
+        for (Heuristic h : Heuristic.portfolio()) {
+            if (h.getName().equals(heuristic)) {
+                loadedHeuristic = h;
+            }
+        }
+        if (loadedHeuristic == null) {
+            throw new IllegalArgumentException("No heuristic " + heuristic + " in the portfolio");
+        }
+    }
+
+    @Benchmark
+    public int heuristic() {
+        return loadedHeuristic.schedule(loadedInstance).sumOfCompletionTimesForScheduledJobs();
+    }
+}
@@ -0,0 +1,74 @@
+package branch_and_bound;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures the computation of the lower bound of a node:
+ * loading the scheduled jobs in the kernel and simulating the preemptive relaxation
+ * The nodes are random partial solutions of a given depth, built once
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+public class LowerBoundBenchmark {
+    /**
+     * The number of different nodes bounded in turn
+     */
+    private static final int SAMPLES = 256;
+
+    @Param("dataset/instances.xlsx")
+    public String dataset;
+
+    @Param({"Sheet2", "Sheet4", "Sheet6"})
+    public String instance;
+
+    /**
+     * The depth of the nodes, as a fraction of the number of jobs
+     */
+    @Param({"0.25", "0.5", "0.75"})
+    public double depth;
+
+    private TreeNode[] nodes;
+
+    private SrptKernel kernel;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SolveContext context = new SolveContext(BenchmarkInstances.load(dataset, instance));
+        kernel = SrptKernel.forCurrentThread(context);
+        nodes = new TreeNode[SAMPLES];
+        Random random = new Random(0);
+        int k = (int) (context.getNumberOfJobs() * depth);
+        for (int s = 0; s < SAMPLES; s++) {
+            nodes[s] = RandomNodes.build(context, k, random);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public int lowerBound() {
+        TreeNode node = nodes[next];
+        next = (next + 1) % SAMPLES;
+        kernel.loadScheduledJobs(node);
+        node.calculateLowerBound(kernel, -1);
+        return node.getLowerBound();
+    }
+}
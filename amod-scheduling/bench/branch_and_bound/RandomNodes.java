@@ -0,0 +1,46 @@
+package branch_and_bound;
+
+import java.util.Random;
+
+/**
+ * This class builds random nodes of the enumeration tree for the benchmarks
+ */
+final class RandomNodes {
+
+    private RandomNodes() {
+    }
+
+    /**
+     * Build a random partial solution
+     * The jobs are appended in random order, each one as soon as possible
+     *
+     * @param context the context of the instance
+     * @param k the number of jobs of the partial solution
+     * @param random the generator of the order
+     * @return the node of the partial solution, with its lower bound
+     */
+    static TreeNode build(SolveContext context, int k, Random random) {
+        int n = context.getNumberOfJobs();
+        int[] jobIds = new int[n];
+        for (int i = 0; i < n; i++) {
+            jobIds[i] = i + 1;
+        }
+        // Partial Fisher-Yates shuffle of the first k jobs
+        for (int i = 0; i < k; i++) {
+            int j = i + random.nextInt(n - i);
+            int t = jobIds[i];
+            jobIds[i] = jobIds[j];
+            jobIds[j] = t;
+        }
+        TreeNode node = new TreeNode(context);
+        for (int i = 0; i < k; i++) {
+            TreeNode child = new TreeNode();
+            child.initChild(node, jobIds[i], DominanceRule.startInstant(context, node, jobIds[i]));
+            node = child;
+        }
+        SrptKernel kernel = SrptKernel.forCurrentThread(context);
+        kernel.loadScheduledJobs(node);
+        node.calculateLowerBound(kernel, -1);
+        return node;
+    }
+}
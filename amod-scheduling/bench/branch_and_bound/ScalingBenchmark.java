@@ -0,0 +1,166 @@
+package branch_and_bound;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class measures how the solver scales with the number of jobs
+ *
+ * For each release time tightness and each size, some instances are generated
+ * (see InstanceGenerator) and solved with a time limit
+ * For each size the table reports how many instances were solved to optimality,
+ * the median and the maximum time, the mean number of expanded nodes and the
+ * worst gap of the instances stopped by the limit
+ * Once no instance of a size is solved to optimality, the larger sizes of the
+ * same tightness are skipped, since they would only hit the limit again
+ *
+ * Usage: java branch_and_bound.ScalingBenchmark [options]
+ *   --sizes=<n,...>         the numbers of jobs (default 10,20,...,200)
+ *   --tightness=<R,...>     the release time tightness (default 0.2,0.6,1.0,1.6)
+ *   --instances=<n>         the instances of each size (default 5)
+ *   --pmin=<p> --pmax=<p>   the processing time range (default 1 - 100)
+ *   --seed=<s>              the seed of the generator (default 1)
+ *   --timelimit=<seconds>   the time limit of each solve (default 10)
+ *   --threads=<n>           the workers of the pool, 0 for one per processor (default 0)
+ *   --csv=<file>            write a row for each solve in a CSV file too
+ */
+public final class ScalingBenchmark {
+
+    private ScalingBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int[] sizes = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100, 120, 140, 160, 180, 200};
+        double[] tightness = {0.2, 0.6, 1.0, 1.6};
+        int instancesPerSize = 5;
+        int processingTimeMin = 1;
+        int processingTimeMax = 100;
+        long seed = 1;
+        int timeLimit = 10;
+        int numThreads = 0;
+        String csvPath = null;
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                System.err.println("Invalid option " + arg);
+                System.exit(-1);
+            }
+            switch (option[0]) {
+                case "--sizes":
+                    String[] sizeList = option[1].split(",");
+                    sizes = new int[sizeList.length];
+                    for (int i = 0; i < sizeList.length; i++) {
+                        sizes[i] = Integer.parseInt(sizeList[i].trim());
+                    }
+                    break;
+                case "--tightness":
+                    String[] tightnessList = option[1].split(",");
+                    tightness = new double[tightnessList.length];
+                    for (int i = 0; i < tightnessList.length; i++) {
+                        tightness[i] = Double.parseDouble(tightnessList[i].trim());
+                    }
+                    break;
+                case "--instances":
+                    instancesPerSize = Integer.parseInt(option[1]);
+                    break;
+                case "--pmin":
+                    processingTimeMin = Integer.parseInt(option[1]);
+                    break;
+                case "--pmax":
+                    processingTimeMax = Integer.parseInt(option[1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(option[1]);
+                    break;
+                case "--timelimit":
+                    timeLimit = Integer.parseInt(option[1]);
+                    break;
+                case "--threads":
+                    numThreads = Integer.parseInt(option[1]);
+                    break;
+                case "--csv":
+                    csvPath = option[1];
+                    break;
+                default:
+                    System.err.println("Unknown option " + option[0]);
+                    System.exit(-1);
+            }
+        }
+        if (instancesPerSize <= 0 || timeLimit < 0 || numThreads < 0) {
+            System.err.println("Invalid number of instances, time limit or threads");
+            System.exit(-1);
+        }
+
+        Parameters parameters = new Parameters();
+        parameters.setTimeLimit(timeLimit);
+        ForkJoinPool pool = new ForkJoinPool(numThreads == 0 ? Runtime.getRuntime().availableProcessors() : numThreads);
+
+        List<String> csv = new ArrayList<>();
+        csv.add("instance,n,R,status,upper_bound,lower_bound,gap,expanded_nodes,elapsed_ms");
+        for (double r : tightness) {
+            InstanceGenerator generator;
+            try {
+                generator = new InstanceGenerator(processingTimeMin, processingTimeMax, r, seed);
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                System.exit(-1);
+                return;
+            }
+            System.out.printf(Locale.ROOT, "R = %.2f, p in [%d, %d], time limit %d s, %d threads%n",
+                    r, processingTimeMin, processingTimeMax, timeLimit, pool.getParallelism());
+            System.out.printf("%6s %8s %14s %14s %16s %10s%n", "n", "optimal", "median ms", "max ms", "mean nodes", "max gap");
+            boolean skip = false;
+            for (int n : sizes) {
+                if (skip) {
+                    System.out.printf("%6d %8s%n", n, "skipped");
+                    continue;
+                }
+                long[] elapsed = new long[instancesPerSize];
+                long nodes = 0;
+                int optimal = 0;
+                double maxGap = 0;
+                for (int index = 0; index < instancesPerSize; index++) {
+                    Instance instance = generator.generate(n, index);
+                    SolverResult result = new BranchAndBound(instance, pool, parameters).solve();
+                    elapsed[index] = result.getElapsedMillis();
+                    nodes += result.getCountExpandedNodes();
+                    if (result.getStatus() == SolverStatus.OPTIMAL) {
+                        optimal++;
+                    } else {
+                        maxGap = Math.max(maxGap, result.getGap());
+                    }
+                    csv.add(String.format(Locale.ROOT, "%s,%d,%.2f,%s,%d,%d,%.6f,%d,%d",
+                            instance.getName(), n, r, result.getStatus(), result.getUpperBound(),
+                            result.getLowerBound(), result.getGap(), result.getCountExpandedNodes(),
+                            result.getElapsedMillis()));
+                }
+                Arrays.sort(elapsed);
+                System.out.printf(Locale.ROOT, "%6d %5d/%-2d %14d %14d %16.0f %9.2f%%%n",
+                        n, optimal, instancesPerSize, elapsed[instancesPerSize / 2], elapsed[instancesPerSize - 1],
+                        (double) nodes / instancesPerSize, 100 * maxGap);
+                skip = optimal == 0;
+            }
+            System.out.println();
+        }
+        pool.shutdown();
+
+        if (csvPath != null) {
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(Paths.get(csvPath), StandardCharsets.UTF_8))) {
+                for (String line : csv) {
+                    writer.println(line);
+                }
+            } catch (IOException e) {
+                System.err.println("Cannot write " + csvPath + ": " + e);
+                System.exit(-1);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package branch_and_bound;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures the whole solve of an instance:
+ * heuristics, search and local search, with the default parameters
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class SolveBenchmark {
+
+    @Param("dataset/instances.xlsx")
+    public String dataset;
+
+    @Param({"Sheet2", "Sheet4", "Sheet6"})
+    public String instance;
+
+    /**
+     * The number of workers of the pool
+     */
+    @Param("1")
+    public int parallelism;
+
+    private Instance loadedInstance;
+
+    private Parameters parameters;
+
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        loadedInstance = BenchmarkInstances.load(dataset, instance);
+        parameters = new Parameters();
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @Benchmark
+    public int solve() {
+        return new BranchAndBound(loadedInstance, pool, parameters).solve().getUpperBound();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,31 @@
+import branch_and_bound.BinaryInstanceFormat;
+import branch_and_bound.Dataset;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class Converter {
+
+    /**
+     * Convert a dataset (xlsx, text, CSV or AMPL data file) to the binary format
+     */
+    public static void main(String[] args) {
+        if (args == null || args.length != 2) {
+            System.err.println("Usage: java " + Converter.class.getName() + " <dataset_path> <binary_dataset_path>");
+            System.exit(-1);
+        }
+
+        String datasetPath = args[0];
+        String binaryDatasetPath = args[1];
+
+        try {
+            // Read the instances one at a time and write them in the binary file
+            Dataset dataset = new Dataset();
+            int count = BinaryInstanceFormat.write(dataset.streamFile(datasetPath, 0), binaryDatasetPath);
+            System.out.printf("Converted %d instances to %s\n", count, binaryDatasetPath);
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Cannot convert " + datasetPath + ": " + e.getMessage());
+            System.exit(-1);
+        }
+    }
+}
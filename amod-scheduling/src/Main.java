@@ -1,11 +1,31 @@
+import branch_and_bound.BatchOrder;
+import branch_and_bound.BatchScheduler;
+import branch_and_bound.BinaryInstanceFormat;
 import branch_and_bound.BranchAndBound;
 import branch_and_bound.Dataset;
+import branch_and_bound.DominanceRuleType;
 import branch_and_bound.Instance;
+import branch_and_bound.InstanceExporter;
+import branch_and_bound.Parameters;
+import branch_and_bound.SearchMetrics;
+import branch_and_bound.SearchReport;
+import branch_and_bound.SearchStrategy;
+import branch_and_bound.SolverResult;
+import branch_and_bound.SolverStatus;
 import branch_and_bound.Stopwatch;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 public class Main {
 
@@ -15,8 +35,27 @@ public class Main {
     public static void main(String[] args) {
         System.out.println("Application started");
 
-        if (args == null || args.length != 3) {
-            System.err.println("Usage: java " + Main.class.getName() + " <num_threads> <dataset_path> <timelimit>");
+        if (args == null || args.length < 3) {
+            System.err.println("Usage: java " + Main.class.getName() + " <num_threads> <dataset_path> <timelimit> [options]");
+            System.err.println("The time limit is in seconds for each instance, 0 for no limit");
+            System.err.println("Options:");
+            System.err.println("  --strategy=<depth-first|best-first|hybrid>");
+            System.err.println("  --frontier-limit=<max open nodes kept by the hybrid strategy>");
+            System.err.println("  --dominance=<none|comma separated list of release-time,chu,left-shift,interchange>");
+            System.err.println("  --state-table=<max sets of scheduled jobs remembered, 0 to disable>");
+            System.err.println("  --local-search=<on|off>");
+            System.err.println("  --checkpoint=<directory> (write the open nodes of each search in the directory)");
+            System.err.println("  --checkpoint-interval=<seconds between two checkpoints, 0 to write them only at the end>");
+            System.err.println("  --resume=<on|off> (continue each search from its checkpoint)");
+            System.err.println("  --progress=<seconds between two progress lines, 0 to disable them>");
+            System.err.println("  --report=<file> (write the results and the metrics of the searches as JSON)");
+            System.err.println("  --node-limit=<max nodes expanded for each instance, 0 for no limit>");
+            System.err.println("  --echo=<on|off> (print each instance on the console)");
+            System.err.println("  --export=<text|csv|json>:<directory> (write each instance in a file of the directory)");
+            System.err.println("  --order=<fifo|smallest-first> (order in which the instances are solved)");
+            System.err.println("  --prefetch=<instances parsed ahead by the loader thread, 0 to parse on demand>");
+            System.err.println("  --concurrent=<instances solved at the same time on the pool>");
+            System.err.println("  --batch-time=<seconds for the whole dataset, shared among the instances, 0 for no limit>");
             System.exit(-1);
         }
 
@@ -27,65 +66,267 @@ public class Main {
         }
         String datasetPath = args[1];
         int timeout = Integer.parseInt(args[2]);
+        if (timeout < 0) {
+            System.err.println("Invalid argument timelimit");
+            System.exit(-1);
+        }
+
+        // Parse the optional arguments
+        Parameters parameters = new Parameters();
+        parameters.setTimeLimit(timeout);
+        boolean echo = !BinaryInstanceFormat.isBinaryFile(datasetPath);
+        int prefetch = 2;
+        int concurrency = 1;
+        int batchTimeLimit = 0;
+        BatchOrder order = BatchOrder.FIFO;
+        Path reportFile = null;
+        InstanceExporter exporter = null;
+        Path exportDirectory = null;
+        for (int a = 3; a < args.length; a++) {
+            String[] option = args[a].split("=", 2);
+            if (option.length != 2) {
+                System.err.println("Invalid option " + args[a]);
+                System.exit(-1);
+            }
+            switch (option[0]) {
+                case "--strategy":
+                    parameters.setSearchStrategy(SearchStrategy.fromString(option[1]));
+                    break;
+                case "--frontier-limit":
+                    parameters.setFrontierLimit(Integer.parseInt(option[1]));
+                    if (parameters.getFrontierLimit() <= 0) {
+                        System.err.println("Invalid argument frontier-limit");
+                        System.exit(-1);
+                    }
+                    break;
+                case "--dominance":
+                    EnumSet<DominanceRuleType> rules = EnumSet.noneOf(DominanceRuleType.class);
+                    if (!option[1].equals("none")) {
+                        for (String rule : option[1].split(",")) {
+                            try {
+                                rules.add(DominanceRuleType.fromString(rule));
+                            } catch (IllegalArgumentException e) {
+                                System.err.println("Unknown dominance rule " + rule);
+                                System.exit(-1);
+                            }
+                        }
+                    }
+                    parameters.setDominanceRules(rules);
+                    break;
+                case "--echo":
+                    if (!option[1].equals("on") && !option[1].equals("off")) {
+                        System.err.println("Invalid argument echo");
+                        System.exit(-1);
+                    }
+                    echo = option[1].equals("on");
+                    break;
+                case "--export":
+                    String[] export = option[1].split(":", 2);
+                    if (export.length != 2 || export[1].isEmpty()) {
+                        System.err.println("Invalid argument export");
+                        System.exit(-1);
+                    }
+                    try {
+                        exporter = new InstanceExporter(InstanceExporter.Format.fromString(export[0]));
+                    } catch (IllegalArgumentException e) {
+                        System.err.println("Unknown export format " + export[0]);
+                        System.exit(-1);
+                    }
+                    exportDirectory = Paths.get(export[1]);
+                    try {
+                        Files.createDirectories(exportDirectory);
+                    } catch (IOException e) {
+                        System.err.println("Cannot create directory " + exportDirectory + ": " + e);
+                        System.exit(-1);
+                    }
+                    break;
+                case "--order":
+                    try {
+                        order = BatchOrder.fromString(option[1]);
+                    } catch (IllegalArgumentException e) {
+                        System.err.println("Unknown order " + option[1]);
+                        System.exit(-1);
+                    }
+                    break;
+                case "--prefetch":
+                    prefetch = Integer.parseInt(option[1]);
+                    if (prefetch < 0) {
+                        System.err.println("Invalid argument prefetch");
+                        System.exit(-1);
+                    }
+                    break;
+                case "--concurrent":
+                    concurrency = Integer.parseInt(option[1]);
+                    if (concurrency <= 0) {
+                        System.err.println("Invalid argument concurrent");
+                        System.exit(-1);
+                    }
+                    break;
+                case "--batch-time":
+                    batchTimeLimit = Integer.parseInt(option[1]);
+                    if (batchTimeLimit < 0) {
+                        System.err.println("Invalid argument batch-time");
+                        System.exit(-1);
+                    }
+                    break;
+                case "--local-search":
+                    if (!option[1].equals("on") && !option[1].equals("off")) {
+                        System.err.println("Invalid argument local-search");
+                        System.exit(-1);
+                    }
+                    parameters.setLocalSearch(option[1].equals("on"));
+                    break;
+                case "--checkpoint":
+                    try {
+                        Files.createDirectories(Paths.get(option[1]));
+                    } catch (IOException e) {
+                        System.err.println("Cannot create directory " + option[1] + ": " + e);
+                        System.exit(-1);
+                    }
+                    parameters.setCheckpointDirectory(option[1]);
+                    break;
+                case "--checkpoint-interval":
+                    parameters.setCheckpointInterval(Integer.parseInt(option[1]));
+                    if (parameters.getCheckpointInterval() < 0) {
+                        System.err.println("Invalid argument checkpoint-interval");
+                        System.exit(-1);
+                    }
+                    break;
+                case "--resume":
+                    if (!option[1].equals("on") && !option[1].equals("off")) {
+                        System.err.println("Invalid argument resume");
+                        System.exit(-1);
+                    }
+                    parameters.setResume(option[1].equals("on"));
+                    break;
+                case "--progress":
+                    parameters.setProgressInterval(Integer.parseInt(option[1]));
+                    if (parameters.getProgressInterval() < 0) {
+                        System.err.println("Invalid argument progress");
+                        System.exit(-1);
+                    }
+                    break;
+                case "--report":
+                    reportFile = Paths.get(option[1]);
+                    break;
+                case "--node-limit":
+                    parameters.setNodeLimit(Long.parseLong(option[1]));
+                    if (parameters.getNodeLimit() < 0) {
+                        System.err.println("Invalid argument node-limit");
+                        System.exit(-1);
+                    }
+                    break;
+                case "--state-table":
+                    parameters.setStateTableCapacity(Integer.parseInt(option[1]));
+                    if (parameters.getStateTableCapacity() < 0) {
+                        System.err.println("Invalid argument state-table");
+                        System.exit(-1);
+                    }
+                    break;
+                default:
+                    System.err.println("Unknown option " + option[0]);
+                    System.exit(-1);
+            }
+        }
 
-        // Build dataset from an input file
+        // Read the dataset from an input file, one instance at a time
+        // The next instances are parsed while the current one is being solved
         Dataset dataset = new Dataset();
-        dataset.buildDatasetFromXlsxFile(datasetPath);
+        Iterator<Instance> instances = null;
+        try {
+            instances = dataset.streamFile(datasetPath, prefetch).iterator();
+        } catch (UncheckedIOException e) {
+            System.err.println("Cannot read dataset " + datasetPath + ": " + e.getCause());
+            System.exit(-1);
+        }
 
-        // Create a new stopwatch
-        Stopwatch stopwatch = new Stopwatch();
+        // The instances are printed and exported only here, never while they are parsed
+        final InstanceExporter console = echo ? new InstanceExporter(InstanceExporter.Format.TEXT) : null;
+        final PrintWriter out = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        final InstanceExporter fileExporter = exporter;
+        final Path directory = exportDirectory;
 
-        // For each instance, run the branch and bound algorithm
-        for (Instance instance : dataset.getInstances()) {
-            System.out.println("****************************** Instance " + instance.getName() + " ******************************");
-            // Start the stopwatch
-            stopwatch.start();
+        // A single pool is shared by all the instances of the dataset
+        ForkJoinPool pool;
+        if (numThreads == 0) {
+            pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        } else {
+            pool = new ForkJoinPool(numThreads);
+        }
 
-            ExecutorService executor;
+        // The results and the metrics of all the searches
+        final SearchReport report = new SearchReport();
 
-            if (numThreads == 0) {
-                executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-            } else {
-                executor = Executors.newFixedThreadPool(numThreads);
-            }
+        final int parallelism = pool.getParallelism();
 
-            // Run the branch and bound algorithm on the instance
-            BranchAndBound bb = new BranchAndBound(instance, executor);
-            Thread t = new Thread(new Runnable() {
+        // For each instance, run the branch and bound algorithm
+        BatchScheduler scheduler = new BatchScheduler(pool, parameters, order, concurrency, batchTimeLimit);
+        try {
+            scheduler.run(instances, new BatchScheduler.Listener() {
                 @Override
-                public void run() {
-                    bb.execute();
+                public void solved(Instance instance, BranchAndBound bb, SolverResult result) {
+                    try {
+                        if (console != null) {
+                            console.export(instance, out);
+                        }
+                        if (fileExporter != null) {
+                            fileExporter.exportToDirectory(instance, directory);
+                        }
+                    } catch (IOException e) {
+                        System.err.println("Cannot export instance " + instance.getName() + ": " + e);
+                    }
+
+                    System.out.println("****************************** Instance " + instance.getName() + " ******************************");
+                    if (result.getStatus() != SolverStatus.OPTIMAL) {
+                        System.out.println("Interrupted");
+                    }
+                    // All tasks completed, terminate the algorithm
+                    System.out.println("Finished all threads");
+
+                    System.out.printf("Best heuristic: %s\n", bb.getBestHeuristic());
+                    System.out.printf("Local search improvements: %d\n", bb.getCountLocalSearchImprovements());
+                    SearchMetrics metrics = result.getMetrics();
+                    System.out.printf("Nodes created: %d, expanded: %d, leaves: %d\n",
+                            metrics.getNodesCreated(), metrics.getNodesExpanded(), metrics.getLeavesReached());
+                    System.out.printf("Lower bounds computed: %d, inherited: %d\n",
+                            metrics.getBoundComputations(), metrics.getBoundsInherited());
+                    System.out.printf("Pruned by bound: %d\n", metrics.getPrunedByBound());
+                    System.out.printf("Pruned by dominance: %d\n", bb.getCountPruned());
+                    for (Map.Entry<String, Long> count : bb.getCountPrunedByRule().entrySet()) {
+                        System.out.printf("  by %s rule: %d\n", count.getKey(), count.getValue());
+                    }
+                    System.out.printf("  by state table: %d\n", bb.getCountPrunedByStateTable());
+                    System.out.printf("Incumbent updates: %d\n", metrics.getCountIncumbentUpdates());
+                    System.out.printf("Found preemptive: %d\n\n", bb.getCountFoundPreemptive());
+                    report.add(instance, bb, result);
+
+                    // Print the results
+                    System.out.println("Schedule");
+                    System.out.println(bb.getBestSolution());
+                    System.out.println(result);
+                    System.out.println(result.getTimer().toString(parallelism));
+                    System.out.println(Stopwatch.prettyPrint(result.getElapsedNanos()));
+                    System.out.println("*************************************************************************************************");
+                    System.out.println();
+                    System.out.println();
                 }
             });
-            executor.execute(t);
-
+        } catch (UncheckedIOException e) {
+            // The dataset turned out to be unreadable while it was being solved
+            System.err.println("Cannot read dataset " + datasetPath + ": " + e.getCause());
+            System.exit(-1);
+        }
+        pool.shutdown();
 
-            executor.shutdown();
-            boolean terminated;
+        if (reportFile != null) {
             try {
-                terminated = executor.awaitTermination(timeout, TimeUnit.SECONDS);
-                if (!terminated) {
-                    System.out.println("Interrupted");
-                    executor.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                System.out.println("Interruped while awaiting completion of callback threads");
+                report.write(reportFile);
+            } catch (IOException e) {
+                System.err.println("Cannot write report " + reportFile + ": " + e);
             }
-            // All tasks completed, terminate the algorithm
-            System.out.println("Finished all threads");
-
-            System.out.printf("Pruned: %d\n", bb.getCountPruned());
-            System.out.printf("Found preemptive: %d\n\n", bb.getCountFoundPreemptive());
-
-            // Get the elapsed time
-            String elapsedTime = stopwatch.prettyPrintElapsedTime();
-            // Print the results
-            System.out.println("Schedule");
-            System.out.println(bb.getBestSolution());
-            System.out.println(elapsedTime);
-            System.out.println("*************************************************************************************************");
-            System.out.println();
-            System.out.println();
         }
+
+        System.out.printf("Solved %d instances (%d interrupted), %.1f instances per hour\n",
+                scheduler.getCountSolved(), scheduler.getCountInterrupted(), scheduler.getThroughput());
     }
 }
@@ -0,0 +1,194 @@
+package branch_and_bound;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * This class reads an instance from an AMPL data file for the model ampl/scheduling.mod
+ * The file contains the number of jobs (param n), the minimum and the maximum
+ * processing time (param min_p, param max_p), the set of the jobs (set jobs)
+ * and the processing and release times of the jobs, given either as two
+ * indexed parameters (param p := 1 90 2 39 ...; param r := ...;)
+ * or as a table (param: p r := 1 90 153 2 39 415 ...;)
+ * The other parameters (e.g. the big M) are ignored
+ * The name of the instance is the name of the file without extension
+ */
+public class AmplInstanceReader implements InstanceSource {
+    /**
+     * The name of the file
+     */
+    private final String filename;
+
+    /**
+     * The name of the instance
+     */
+    private final String name;
+
+    /**
+     * The content of the file, without comments
+     */
+    private final String content;
+
+    /**
+     * Read an AMPL data file
+     * @param filename the name of the file
+     * @throws IOException if the file cannot be read
+     */
+    public AmplInstanceReader(String filename) throws IOException {
+        this.filename = filename;
+        Path path = Paths.get(filename);
+        String fileName = path.getFileName().toString();
+        this.name = fileName.contains(".") ? fileName.substring(0, fileName.lastIndexOf('.')) : fileName;
+        // Remove the comments
+        this.content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8).replaceAll("#[^\n]*", "");
+    }
+
+    /**
+     * Get an iterator over the instance of the file
+     * @return the iterator
+     * @throws UncheckedIOException if a value of the file is not an integer
+     */
+    @Override
+    public Iterator<Instance> iterator() {
+        Instance instance;
+        try {
+            instance = parse();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return instance != null ?
+                Collections.singletonList(instance).iterator() : Collections.<Instance>emptyIterator();
+    }
+
+    /**
+     * Nothing to close: the file has been read by the constructor
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Parse the statements of the file
+     * @return the instance, or null if the file does not contain a complete instance
+     * @throws IOException if a value is not an integer
+     */
+    private Instance parse() throws IOException {
+        Map<String, Integer> scalars = new HashMap<>();
+        Map<Integer, Integer> processingTimes = new HashMap<>();
+        Map<Integer, Integer> releaseTimes = new HashMap<>();
+        int numberOfJobsInSet = -1;
+
+        for (String statement : content.split(";")) {
+            String[] tokens = statement.replace(":=", " := ").trim().split("\\s+");
+            if (tokens.length < 2) {
+                // Empty statement or "data"
+                continue;
+            }
+            int assignment = indexOf(tokens, ":=");
+            if (tokens[0].equals("set") && tokens[1].equals("jobs") && assignment >= 0) {
+                numberOfJobsInSet = tokens.length - assignment - 1;
+            } else if (tokens[0].equals("param:") || (tokens[0].equals("param") && tokens[1].equals(":"))) {
+                // Table: the columns, then a row for each job
+                int firstColumn = tokens[0].equals("param:") ? 1 : 2;
+                int columns = assignment - firstColumn;
+                for (int row = assignment + 1; row + columns < tokens.length; row += columns + 1) {
+                    int jobId = parseNumber(tokens[row]);
+                    for (int column = 0; column < columns; column++) {
+                        put(tokens[firstColumn + column], jobId, parseNumber(tokens[row + column + 1]),
+                                processingTimes, releaseTimes);
+                    }
+                }
+            } else if (tokens[0].equals("param") && assignment == 2) {
+                if (tokens.length == 4) {
+                    // Scalar parameter
+                    scalars.put(tokens[1], parseNumber(tokens[3]));
+                } else {
+                    // Indexed parameter: pairs (job, value)
+                    for (int pair = assignment + 1; pair + 1 < tokens.length; pair += 2) {
+                        put(tokens[1], parseNumber(tokens[pair]), parseNumber(tokens[pair + 1]),
+                                processingTimes, releaseTimes);
+                    }
+                }
+            }
+        }
+
+        // Build the instance
+        int numberOfJobs = scalars.containsKey("n") ? scalars.get("n") :
+                numberOfJobsInSet >= 0 ? numberOfJobsInSet : processingTimes.size();
+        if (numberOfJobs <= 0) {
+            System.err.println("Empty instance " + name);
+            return null;
+        }
+        Instance instance = new Instance();
+        instance.setName(name);
+        instance.setNumberOfJobs(numberOfJobs);
+        instance.setProcessingTimeMin(scalars.containsKey("min_p") ? scalars.get("min_p") :
+                processingTimes.isEmpty() ? 0 : Collections.min(processingTimes.values()));
+        instance.setProcessingTimeMax(scalars.containsKey("max_p") ? scalars.get("max_p") :
+                processingTimes.isEmpty() ? 0 : Collections.max(processingTimes.values()));
+        // Every job 1, ..., n needs a processing time and a release time
+        for (int jobId = 1; jobId <= numberOfJobs; jobId++) {
+            if (!processingTimes.containsKey(jobId) || !releaseTimes.containsKey(jobId)) {
+                System.err.println("Inconsistent instance " + name + ": job " + jobId + " of " +
+                        numberOfJobs + " has no processing time or release time");
+                return null;
+            }
+            instance.addJob(new Job(jobId, processingTimes.get(jobId), releaseTimes.get(jobId)));
+        }
+        return instance;
+    }
+
+    /**
+     * Parse an integer value
+     * @param token the token of the value
+     * @return the value
+     * @throws IOException if the token is not an integer
+     */
+    private int parseNumber(String token) throws IOException {
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new IOException(filename + ": invalid number " + token, e);
+        }
+    }
+
+    /**
+     * Store the value of an indexed parameter
+     * @param parameter the name of the parameter
+     * @param jobId the index (the id of the job)
+     * @param value the value
+     * @param processingTimes the processing times
+     * @param releaseTimes the release times
+     */
+    private static void put(String parameter, int jobId, int value,
+                            Map<Integer, Integer> processingTimes, Map<Integer, Integer> releaseTimes) {
+        if (parameter.equals("p")) {
+            processingTimes.put(jobId, value);
+        } else if (parameter.equals("r")) {
+            releaseTimes.put(jobId, value);
+        }
+    }
+
+    /**
+     * Find a token
+     * @param tokens the tokens
+     * @param token the token to be found
+     * @return the position of the token, or -1 if it is not found
+     */
+    private static int indexOf(String[] tokens, String token) {
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i].equals(token)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
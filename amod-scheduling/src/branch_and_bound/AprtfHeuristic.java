@@ -0,0 +1,57 @@
+package branch_and_bound;
+
+/**
+ * Chu's APRTF rule (alternative priority rule for total flow time):
+ * the priority of a job j at time t is PRTF(j) = 2 max{ t, r_j } + p_j
+ * The job with the smallest priority and the job with the earliest completion time
+ * are compared by the sum of the completion times of the two orders,
+ * and the first job of the better order is scheduled next
+ */
+class AprtfHeuristic extends DispatchingHeuristic {
+
+    @Override
+    String getName() {
+        return "APRTF";
+    }
+
+    @Override
+    int select(Instance instance, boolean[] scheduled, int currentTime, int remainingJobs) {
+        // The job with the smallest priority
+        int alpha = -1;
+        long alphaPriority = 0;
+        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+            if (scheduled[jobId-1]) {
+                continue;
+            }
+            long priority = 2L * Math.max(currentTime, instance.getReleaseTime(jobId)) + instance.getProcessingTime(jobId);
+            if (alpha == -1 || priority < alphaPriority) {
+                alpha = jobId;
+                alphaPriority = priority;
+            }
+        }
+
+        // The job with the earliest completion time
+        int beta = EarliestCompletionTimeHeuristic.selectEarliestCompletionTime(instance, scheduled, currentTime);
+        if (alpha == beta) {
+            return alpha;
+        }
+
+        // Compare the orders (alpha, beta) and (beta, alpha)
+        long alphaFirst = sumOfCompletionTimes(instance, alpha, beta, currentTime);
+        long betaFirst = sumOfCompletionTimes(instance, beta, alpha, currentTime);
+        return alphaFirst <= betaFirst ? alpha : beta;
+    }
+
+    /**
+     * Get the sum of the completion times of two jobs scheduled one after the other
+     * @param instance the instance to be solved
+     * @param first the id of the first job
+     * @param second the id of the second job
+     * @param currentTime the instant the machine becomes free
+     * @return the sum of the completion times
+     */
+    private static long sumOfCompletionTimes(Instance instance, int first, int second, int currentTime) {
+        int completionTimeFirst = earliestCompletionTime(instance, first, currentTime);
+        return completionTimeFirst + earliestCompletionTime(instance, second, completionTimeFirst);
+    }
+}
@@ -0,0 +1,45 @@
+package branch_and_bound;
+
+import java.util.Comparator;
+
+/**
+ * Enumeration for the orders in which a batch of instances is solved
+ */
+public enum BatchOrder {
+    /**
+     * Solve the instances in the order of the dataset
+     */
+    FIFO,
+
+    /**
+     * Solve the instances with fewer jobs first,
+     * so that the small instances do not wait behind a large one
+     * The instances are reordered within a window of upcoming instances
+     */
+    SMALLEST_FIRST;
+
+    /**
+     * Get the comparator of the instances for the order
+     * @return the comparator, or null if the order of the dataset is kept
+     */
+    Comparator<Instance> comparator() {
+        if (this == FIFO) {
+            return null;
+        }
+        return new Comparator<Instance>() {
+            @Override
+            public int compare(Instance i1, Instance i2) {
+                return Integer.compare(i1.getNumberOfJobs(), i2.getNumberOfJobs());
+            }
+        };
+    }
+
+    /**
+     * Get the order corresponding to a name (e.g. "smallest-first")
+     * @param name the name of the order
+     * @return the order
+     */
+    public static BatchOrder fromString(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
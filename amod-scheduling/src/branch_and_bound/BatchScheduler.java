@@ -0,0 +1,379 @@
+package branch_and_bound;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static branch_and_bound.Constants.BATCH_ORDER_WINDOW;
+
+/**
+ * This class solves a batch of instances on a single pool of worker threads
+ *
+ * The pool is created once for the whole batch instead of once per instance,
+ * so the workers (and their node pools and kernels) are reused by all the instances
+ * The instances are started in the order given by the batch order,
+ * each one within the time and node limits of the parameters
+ * Several instances can be solved at the same time: their searches share the
+ * workers of the pool, which is useful when the instances are too small
+ * to keep all the workers busy
+ * A search gives its workers back to the pool when another one submits work
+ * (at most once per YIELD_TIME_SLICE milliseconds),
+ * so that a small instance does not wait for the end of a large one
+ * If the batch has a time limit, each instance receives a time slice:
+ * the time left to the batch is shared among the instances waiting to be solved,
+ * so that a large instance cannot consume the time of the instances after it
+ */
+public final class BatchScheduler {
+    /**
+     * The listener notified when an instance has been solved
+     */
+    public interface Listener {
+        /**
+         * Called when the search on an instance has terminated
+         * It is called by one thread at a time, in order of termination
+         * @param instance the instance
+         * @param bb the branch and bound algorithm run on the instance
+         * @param result the result of the search
+         */
+        void solved(Instance instance, BranchAndBound bb, SolverResult result);
+    }
+
+    /**
+     * The pool shared by all the instances of the batch
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The parameters of the runs
+     */
+    private final Parameters parameters;
+
+    /**
+     * The order in which the instances are solved
+     */
+    private final BatchOrder order;
+
+    /**
+     * The number of instances solved at the same time
+     */
+    private final int concurrency;
+
+    /**
+     * The time limit of the whole batch, in seconds
+     * If it is 0, the batch is not limited in time
+     */
+    private final int batchTimeLimit;
+
+    /**
+     * The instant (System.nanoTime()) when the batch has to end,
+     * meaningful only if the batch has a time limit
+     */
+    private long batchDeadline;
+
+    /**
+     * The number of instances solved
+     */
+    private int countSolved = 0;
+
+    /**
+     * The number of instances whose search has been stopped by a limit
+     */
+    private int countInterrupted = 0;
+
+    /**
+     * The time spent on the batch, in nanoseconds
+     */
+    private long elapsedTime = 0;
+
+    /**
+     * Constructor
+     * @param pool the pool shared by all the instances
+     * @param parameters the parameters of the runs
+     * @param order the order in which the instances are solved
+     */
+    public BatchScheduler(ForkJoinPool pool, Parameters parameters, BatchOrder order) {
+        this(pool, parameters, order, 1, 0);
+    }
+
+    /**
+     * Constructor
+     * @param pool the pool shared by all the instances
+     * @param parameters the parameters of the runs
+     * @param order the order in which the instances are started
+     * @param concurrency the number of instances solved at the same time
+     * @param batchTimeLimit the time limit of the whole batch, in seconds, 0 for no limit
+     */
+    public BatchScheduler(ForkJoinPool pool, Parameters parameters, BatchOrder order, int concurrency, int batchTimeLimit) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Invalid number of concurrent instances " + concurrency);
+        }
+        if (batchTimeLimit < 0) {
+            throw new IllegalArgumentException("Invalid batch time limit " + batchTimeLimit);
+        }
+        this.pool = pool;
+        this.parameters = parameters;
+        this.order = order;
+        this.concurrency = concurrency;
+        this.batchTimeLimit = batchTimeLimit;
+    }
+
+    /**
+     * Solve all the instances
+     * The instances are read from the iterator only when needed:
+     * at most BATCH_ORDER_WINDOW of them are waiting to be solved
+     *
+     * @param instances the instances
+     * @param listener the listener notified after each instance
+     * @return the number of instances solved
+     */
+    public int run(Iterator<Instance> instances, Listener listener) {
+        long batchStart = System.nanoTime();
+        batchDeadline = batchStart + TimeUnit.SECONDS.toNanos(batchTimeLimit);
+        Comparator<Instance> comparator = order.comparator();
+        // The time slices need the number of waiting instances: read them in advance
+        PendingQueue queue = new PendingQueue(instances, comparator, comparator != null || batchTimeLimit > 0);
+        if (concurrency == 1) {
+            Instance instance;
+            while ((instance = queue.next()) != null) {
+                solve(instance, timeSlice(queue.size() + 1), listener);
+            }
+        } else {
+            runConcurrently(queue, listener);
+        }
+        elapsedTime += System.nanoTime() - batchStart;
+        return countSolved;
+    }
+
+    /**
+     * Solve the instances, at most concurrency of them at the same time
+     * The next instance is chosen only when a search terminates,
+     * so the batch order applies to the instances read in the meantime too
+     * @param queue the instances waiting to be solved
+     * @param listener the listener notified after each instance
+     */
+    private void runConcurrently(PendingQueue queue, final Listener listener) {
+        ExecutorService solvers = Executors.newFixedThreadPool(concurrency);
+        final Semaphore slots = new Semaphore(concurrency);
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        try {
+            while (failure.get() == null) {
+                slots.acquire();
+                final Instance instance = queue.next();
+                if (instance == null) {
+                    break;
+                }
+                final long timeLimit = timeSlice(queue.size() + 1);
+                solvers.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            solve(instance, timeLimit, listener);
+                        } catch (RuntimeException e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            slots.release();
+                        }
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Wait for the searches already started
+            solvers.shutdown();
+            try {
+                solvers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Get the time limit of the next instance started
+     * Without a batch time limit, it is the time limit of the parameters
+     * Otherwise the time left to the batch is split in as many rounds as needed
+     * to solve the waiting instances concurrency at a time, and the instance receives one round
+     * (within the time limit of the parameters)
+     * @param waiting the number of instances waiting to be solved, including the one started
+     * @return the time limit, in nanoseconds, 0 for no limit
+     */
+    private long timeSlice(int waiting) {
+        long timeLimit = TimeUnit.SECONDS.toNanos(parameters.getTimeLimit());
+        if (batchTimeLimit == 0) {
+            return timeLimit;
+        }
+        long remaining = batchDeadline - System.nanoTime();
+        long rounds = (waiting + concurrency - 1) / concurrency;
+        // Once the batch is over, the search stops at its first node
+        // and the instance keeps the incumbent of the heuristics
+        long slice = Math.max(1, remaining / rounds);
+        return timeLimit > 0 ? Math.min(timeLimit, slice) : slice;
+    }
+
+    /**
+     * Solve an instance on the shared pool within the limits of the parameters
+     * @param instance the instance
+     * @param timeLimit the time limit of the search, in nanoseconds, 0 for no limit
+     * @param listener the listener notified when the search has terminated
+     */
+    private void solve(Instance instance, long timeLimit, Listener listener) {
+        BranchAndBound bb = new BranchAndBound(instance, pool, parameters);
+        bb.setSharedPool(concurrency > 1);
+        ProgressReporter reporter = null;
+        if (parameters.getProgressInterval() > 0) {
+            reporter = ProgressReporter.start(instance.getName(), bb, parameters.getProgressInterval(), System.out);
+        }
+        SolverResult result;
+        try {
+            result = bb.solve(timeLimit);
+        } finally {
+            if (reporter != null) {
+                reporter.stop();
+            }
+        }
+
+        synchronized (this) {
+            countSolved++;
+            if (result.getStatus() != SolverStatus.OPTIMAL) {
+                countInterrupted++;
+            }
+            listener.solved(instance, bb, result);
+        }
+    }
+
+    /* Getters */
+
+    /**
+     * Get the number of instances solved
+     * @return the number of instances
+     */
+    public synchronized int getCountSolved() {
+        return countSolved;
+    }
+
+    /**
+     * Get the number of instances whose search has been stopped by a limit
+     * @return the number of instances
+     */
+    public synchronized int getCountInterrupted() {
+        return countInterrupted;
+    }
+
+    /**
+     * Get the number of instances solved per hour
+     * @return the throughput, 0 if nothing has been solved
+     */
+    public synchronized double getThroughput() {
+        if (elapsedTime == 0) {
+            return 0;
+        }
+        return countSolved * (double) TimeUnit.HOURS.toNanos(1) / elapsedTime;
+    }
+
+    /**
+     * The instances waiting to be solved, in the batch order
+     * The instances are read from the iterator only when needed:
+     * at most BATCH_ORDER_WINDOW of them are waiting
+     * The order of the dataset is kept without reading any instance in advance,
+     * unless the waiting instances have to be counted
+     */
+    private static final class PendingQueue {
+
+        private final Iterator<Instance> instances;
+
+        /**
+         * The upcoming instances, null if they are not read in advance
+         */
+        private final PriorityQueue<PendingInstance> pending;
+
+        /**
+         * The number of instances read so far
+         */
+        private long arrival = 0;
+
+        /**
+         * Constructor
+         * @param instances the instances
+         * @param comparator the batch order, null to keep the order of the dataset
+         * @param readAhead true if the upcoming instances are read in advance
+         */
+        private PendingQueue(Iterator<Instance> instances, Comparator<Instance> comparator, boolean readAhead) {
+            this.instances = instances;
+            this.pending = readAhead ?
+                    new PriorityQueue<>(BATCH_ORDER_WINDOW, new PendingOrder(comparator)) : null;
+        }
+
+        /**
+         * Get the number of instances read in advance and waiting to be solved
+         * @return the number of instances
+         */
+        private int size() {
+            return pending != null ? pending.size() : 0;
+        }
+
+        /**
+         * Get the next instance to be solved
+         * @return the instance, null if all the instances have been taken
+         */
+        private Instance next() {
+            if (pending == null) {
+                // Keep the order of the dataset, reading the instances on demand
+                return instances.hasNext() ? instances.next() : null;
+            }
+            // Choose the next instance among the upcoming ones
+            while (pending.size() < BATCH_ORDER_WINDOW && instances.hasNext()) {
+                pending.add(new PendingInstance(instances.next(), arrival++));
+            }
+            PendingInstance next = pending.poll();
+            return next != null ? next.instance : null;
+        }
+    }
+
+    /**
+     * An instance waiting to be solved
+     */
+    private static final class PendingInstance {
+
+        private final Instance instance;
+
+        /**
+         * The position of the instance in the dataset
+         */
+        private final long arrival;
+
+        private PendingInstance(Instance instance, long arrival) {
+            this.instance = instance;
+            this.arrival = arrival;
+        }
+    }
+
+    /**
+     * Compare the waiting instances with the batch order
+     * Ties are broken by position in the dataset,
+     * which is the only criterion if the order of the dataset is kept
+     */
+    private static final class PendingOrder implements Comparator<PendingInstance> {
+
+        private final Comparator<Instance> comparator;
+
+        private PendingOrder(Comparator<Instance> comparator) {
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int compare(PendingInstance p1, PendingInstance p2) {
+            int result = comparator != null ? comparator.compare(p1.instance, p2.instance) : 0;
+            return result != 0 ? result : Long.compare(p1.arrival, p2.arrival);
+        }
+    }
+}
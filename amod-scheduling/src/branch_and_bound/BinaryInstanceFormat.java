@@ -0,0 +1,281 @@
+package branch_and_bound;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class reads and writes the compact binary format of a dataset
+ *
+ * The file starts with a header: the magic number "AMOD", the version
+ * of the format and the number of instances
+ * Each instance is stored as the number of jobs, the minimum and the maximum
+ * processing time, the length of the name and the name (UTF-8),
+ * followed by the processing times and the release times of the jobs
+ * (packed arrays in order of job id)
+ * All the values are big-endian 32 bit integers
+ *
+ * The reader maps the whole file in memory and decodes an instance
+ * only when it is requested, so opening a dataset does not depend on its size
+ */
+public final class BinaryInstanceFormat {
+    /**
+     * The magic number at the beginning of a file ("AMOD")
+     */
+    private static final int MAGIC = 0x414D4F44;
+
+    /**
+     * The version of the format
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The position of the number of instances in the header
+     */
+    private static final int COUNT_POSITION = 8;
+
+    /**
+     * The size of the header
+     */
+    private static final int HEADER_SIZE = 12;
+
+    /**
+     * The size of the fields which precede the name of an instance
+     * It is also the size of an instance without jobs and name
+     */
+    private static final int INSTANCE_HEADER_SIZE = 16;
+
+    private BinaryInstanceFormat() {
+    }
+
+    /**
+     * Write instances in a binary file
+     * @param instances the instances
+     * @param filename the name of the file
+     * @return the number of instances written
+     * @throws IOException if the file cannot be written
+     */
+    public static int write(Iterable<Instance> instances, String filename) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Header: the number of instances is written at the end
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).putInt(0).flip();
+            writeFully(channel, header);
+
+            int count = 0;
+            for (Instance instance : instances) {
+                writeFully(channel, encode(instance));
+                count++;
+            }
+
+            // Write the number of instances in the header
+            ByteBuffer countBuffer = ByteBuffer.allocate(4);
+            countBuffer.putInt(count).flip();
+            channel.position(COUNT_POSITION);
+            writeFully(channel, countBuffer);
+            return count;
+        }
+    }
+
+    /**
+     * Encode an instance
+     * @param instance the instance
+     * @return the buffer, ready to be written
+     */
+    private static ByteBuffer encode(Instance instance) {
+        int numberOfJobs = instance.getNumberOfJobs();
+        byte[] name = instance.getName() != null ? instance.getName().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        ByteBuffer buffer = ByteBuffer.allocate(INSTANCE_HEADER_SIZE + name.length + 8 * numberOfJobs);
+        buffer.putInt(numberOfJobs)
+                .putInt(instance.getProcessingTimeMin())
+                .putInt(instance.getProcessingTimeMax())
+                .putInt(name.length)
+                .put(name);
+        for (int processingTime : instance.getProcessingTimes()) {
+            buffer.putInt(processingTime);
+        }
+        for (int releaseTime : instance.getReleaseTimes()) {
+            buffer.putInt(releaseTime);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Write the whole content of a buffer
+     * @param channel the channel
+     * @param buffer the buffer
+     * @throws IOException if the buffer cannot be written
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Check if a file is in the binary format, reading its magic number
+     * @param filename the name of the file
+     * @return true if the file is in the binary format
+     */
+    public static boolean isBinaryFile(String filename) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4);
+            return channel.read(magic) == 4 && magic.getInt(0) == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * This class reads the instances of a binary file mapped in memory
+     */
+    public static final class Reader implements InstanceSource {
+        /**
+         * The name of the file, for the error messages
+         */
+        private final String filename;
+
+        /**
+         * The content of the file
+         */
+        private final MappedByteBuffer buffer;
+
+        /**
+         * The number of instances in the file
+         */
+        private final int numberOfInstances;
+
+        /**
+         * Map a binary file in memory and read its header
+         * @param filename the name of the file
+         * @throws IOException if the file cannot be read or is not in the binary format
+         */
+        public Reader(String filename) throws IOException {
+            this.filename = filename;
+            // The mapping remains valid after the channel is closed
+            try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException(filename + " is not a binary dataset");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported version " + buffer.getInt(4) + " of " + filename);
+            }
+            numberOfInstances = buffer.getInt(COUNT_POSITION);
+            // Every instance takes at least the fields which precede its name
+            if (numberOfInstances < 0 || numberOfInstances > (buffer.limit() - HEADER_SIZE) / INSTANCE_HEADER_SIZE) {
+                throw new IOException(filename + " is truncated: " + numberOfInstances + " instances declared in "
+                        + buffer.limit() + " bytes");
+            }
+        }
+
+        /**
+         * Get the number of instances in the file
+         * @return the number of instances
+         */
+        public int getNumberOfInstances() {
+            return numberOfInstances;
+        }
+
+        /**
+         * Get an iterator over the instances, in the order of the file
+         * @return the iterator
+         */
+        @Override
+        public Iterator<Instance> iterator() {
+            final ByteBuffer view = buffer.duplicate();
+            view.position(HEADER_SIZE);
+            return new Iterator<Instance>() {
+                /**
+                 * The number of instances read
+                 */
+                private int read = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return read < numberOfInstances;
+                }
+
+                @Override
+                public Instance next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    read++;
+                    return decode(view, read);
+                }
+            };
+        }
+
+        /**
+         * Decode the instance at the position of the buffer
+         * The sizes read from the file are checked against the bytes left,
+         * so a truncated or corrupted file is reported instead of read past its end
+         * @param view the buffer
+         * @param index the position of the instance in the file, starting from 1
+         * @return the instance
+         * @throws UncheckedIOException if the instance does not fit in the file
+         */
+        private Instance decode(ByteBuffer view, int index) {
+            if (view.remaining() < INSTANCE_HEADER_SIZE) {
+                throw corrupted(index, "truncated header");
+            }
+            Instance instance = new Instance();
+            int numberOfJobs = view.getInt();
+            int processingTimeMin = view.getInt();
+            int processingTimeMax = view.getInt();
+            int nameLength = view.getInt();
+            if (nameLength < 0 || nameLength > view.remaining()) {
+                throw corrupted(index, "invalid name length " + nameLength);
+            }
+            if (numberOfJobs < 0 || 8L * numberOfJobs > view.remaining() - nameLength) {
+                throw corrupted(index, "invalid number of jobs " + numberOfJobs);
+            }
+            instance.setNumberOfJobs(numberOfJobs);
+            instance.setProcessingTimeMin(processingTimeMin);
+            instance.setProcessingTimeMax(processingTimeMax);
+            byte[] name = new byte[nameLength];
+            view.get(name);
+            instance.setName(new String(name, StandardCharsets.UTF_8));
+
+            // The release times follow the processing times
+            int releaseTimesPosition = view.position() + 4 * numberOfJobs;
+            for (int jobId = 1; jobId <= numberOfJobs; jobId++) {
+                int processingTime = view.getInt(view.position() + 4 * (jobId - 1));
+                int releaseTime = view.getInt(releaseTimesPosition + 4 * (jobId - 1));
+                instance.addJob(new Job(jobId, processingTime, releaseTime));
+            }
+            view.position(releaseTimesPosition + 4 * numberOfJobs);
+            return instance;
+        }
+
+        /**
+         * Build the error for an instance which does not fit in the file
+         * @param index the position of the instance in the file, starting from 1
+         * @param reason what is wrong
+         * @return the error
+         */
+        private UncheckedIOException corrupted(int index, String reason) {
+            return new UncheckedIOException(new IOException(filename + ": instance " + index + " of "
+                    + numberOfInstances + " is corrupted (" + reason + ")"));
+        }
+
+        /**
+         * Release the file
+         * The mapping is released by the garbage collector
+         */
+        @Override
+        public void close() {
+        }
+    }
+}
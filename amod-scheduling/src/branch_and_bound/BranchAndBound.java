@@ -1,83 +1,242 @@
 package branch_and_bound;
 
+import com.google.common.collect.MinMaxPriorityQueue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static branch_and_bound.Constants.CHECKPOINT_SHUTDOWN_TIMEOUT;
+import static branch_and_bound.Constants.CHECK_INTERVAL;
+import static branch_and_bound.Constants.INFINITY;
+import static branch_and_bound.Constants.SPLIT_THRESHOLD;
+import static branch_and_bound.Constants.YIELD_TIME_SLICE;
 
 public class BranchAndBound {
     /**
      * The reference to the instance to be solved
      */
-    public static Instance instance;
-
-    /**
-     * The ID of the main thread
-     */
-    private long mainThreadId;
+    private final Instance instance;
 
     /**
-     * The best known upper bound
-     * This value is updated during the execution of the B&B
-     * algorithm whenever a better value (lower upper bound) is found
+     * The data of the instance read by the nodes, the kernels and the dominance rules
+     * Every run has its own context, so several runs can share the pool
      */
-    private int upperBound;
+    private final SolveContext context;
 
     /**
-     * The best known solution
+     * The best known upper bound and the best known solution
      * (i.e. a schedule which minimizes the sum of the completion times)
      * This value is updated during the execution of the B&B
      * algorithm whenever a better schedule
      * (which has a lower sum of completion times) is found
+     * The workers read it without locks and replace it with compare-and-set,
+     * so that an improvement is visible to all the workers immediately
      */
-    private Solution bestSolution;
+    private final AtomicReference<Incumbent> incumbent = new AtomicReference<>(new Incumbent(INFINITY, null));
 
     /**
      * Allow to split the computation between several threads
      * in order to reduce the execution time on multi-core processors
+     * Every worker owns a deque of subtrees: idle workers steal
+     * the oldest (i.e. the shallowest) subtree from the other workers
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * The parameters of the run
+     */
+    private Parameters parameters;
+
+    /**
+     * The dominance rules enabled for the run, applied to every child
+     * before computing its lower bound
+     */
+    private final List<DominanceRule> dominanceRules = new ArrayList<>();
+
+    /**
+     * The partial solutions met during the search, used to prune
+     * the partial solutions dominated by another order of the same jobs
+     * It is null if the state table is disabled
+     */
+    private StateTable stateTable;
+
+    /**
+     * The local search which improves the new incumbents
+     * It is null if the local search is disabled or the search is not running
+     */
+    private volatile LocalSearch localSearch;
+
+    /**
+     * The global frontier of open nodes
+     * It is used only by the best first and the hybrid strategies
+     */
+    private Frontier frontier;
+
+    /**
+     * True if the search has been asked to stop
+     */
+    private volatile boolean stopped = false;
+
+    /**
+     * The reason why the search has been stopped, null if it has not been stopped
+     */
+    private volatile SolverStatus stopReason;
+
+    /**
+     * The instant (System.nanoTime()) when the search started
+     */
+    private long startTime;
+
+    /**
+     * The time limit of the search, in nanoseconds
+     * If it is 0, the search is not limited in time
      */
-    private ExecutorService executor;
+    private long timeLimit;
 
     /**
-     * Count pruned branches for testing purposes
+     * The instant (System.nanoTime()) when the search has to stop,
+     * meaningful only if the search has a time limit
      */
-    private int countPruned = 0;
+    private long deadline;
 
     /**
-     * Count pruned branches for testing purposes
+     * True if the current epoch of the search has ended
+     * The search is split in epochs when checkpoints are written periodically
+     * or when the pool is shared with other searches:
+     * at the end of an epoch the workers leave their nodes open,
+     * the checkpoint is written if it is due and a new epoch starts from the open nodes
      */
-    private int countFoundPreemptive = 0;
+    private volatile boolean epochEnded = false;
+
+    /**
+     * The instant (System.nanoTime()) when the next checkpoint is due,
+     * meaningful only if the checkpoints are written periodically
+     */
+    private long epochDeadline;
+
+    /**
+     * The instant (System.nanoTime()) when the current epoch started
+     */
+    private long epochStart;
+
+    /**
+     * The nodes left open by the workers when the search or the epoch has been stopped
+     */
+    private final Queue<TreeNode> openNodes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The smallest lower bound of the nodes left open when the search terminated
+     * Together with the upper bound, it gives the lower bound proven by the search
+     */
+    private int openLowerBound = INFINITY;
+
+    /**
+     * True if the pool is shared with the searches on other instances:
+     * the search gives its workers back when another search is waiting for them
+     */
+    private boolean sharedPool = false;
+
+    /**
+     * The number of nodes each worker still expands before it checks
+     * the conditions shared with the other workers
+     */
+    private final ThreadLocal<int[]> nodesBeforeCheck = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[] { CHECK_INTERVAL };
+        }
+    };
+
+    /**
+     * The file of the checkpoints of the search, null if no checkpoint is written
+     */
+    private Path checkpointFile;
+
+    /**
+     * The metrics of the search
+     */
+    private final SearchMetrics metrics = new SearchMetrics();
+
+    /**
+     * The time spent in each phase of the run
+     */
+    private final PhaseTimer timer = new PhaseTimer();
+
+    /**
+     * The duration of the search, in nanoseconds
+     */
+    private long elapsedTime;
+
+    /**
+     * The name of the heuristic which found the first incumbent
+     */
+    private String bestHeuristic;
+
+    /**
+     * Initialize a Branch and Bound algorithm with the default parameters
+     */
+    public BranchAndBound(Instance i, ForkJoinPool pool) {
+        this(i, pool, new Parameters());
+    }
 
     /**
      * Initialize a Branch and Bound algorithm
      */
-    public BranchAndBound(Instance i, ExecutorService executor) {
-        this.executor = executor;
+    public BranchAndBound(Instance i, ForkJoinPool pool, Parameters parameters) {
+        this.pool = pool;
+        this.parameters = parameters;
+        this.timeLimit = TimeUnit.SECONDS.toNanos(parameters.getTimeLimit());
+        for (DominanceRuleType type : parameters.getDominanceRules()) {
+            dominanceRules.add(type.create());
+        }
+        if (parameters.getStateTableCapacity() > 0) {
+            stateTable = new StateTable(parameters.getStateTableCapacity());
+        }
         // The instance to be solved
         instance = i;
+        context = new SolveContext(i);
+        timer.add(PhaseTimer.Phase.PARSE, i.getParseTime());
 
         // Calculate upper bounds
-        Solution lowerIndexFirstSolution = calculateLowerIndexFirstSchedule();
-        Solution lowerReleaseTimeFirstSolution = calculateLowerReleaseTimeFirstSchedule();
-        Solution lowerProcessingTimeFirstSolution = calculateLowerProcessingTimeFirstSchedule();
-        Solution lowerProcessingTimeReleaseTimeFirstSolution = calculateLowerProcessingTimeLowerReleaseTimeFirstSchedule();
+        long start = System.nanoTime();
+        runHeuristics();
+        timer.stop(PhaseTimer.Phase.HEURISTICS, start);
+    }
 
-        // Update the best upper bound
-        this.bestSolution = null;
-        if (updateSolution(lowerIndexFirstSolution)) {
-            setUpperBound(lowerIndexFirstSolution.sumOfCompletionTimesForScheduledJobs());
-        }
-        if (updateSolution(lowerReleaseTimeFirstSolution)) {
-            setUpperBound(lowerReleaseTimeFirstSolution.sumOfCompletionTimesForScheduledJobs());
-        }
-        if (updateSolution(lowerProcessingTimeFirstSolution)) {
-            setUpperBound(lowerProcessingTimeFirstSolution.sumOfCompletionTimesForScheduledJobs());
-        }
-        if (updateSolution(lowerProcessingTimeReleaseTimeFirstSolution)) {
-            setUpperBound(lowerProcessingTimeReleaseTimeFirstSolution.sumOfCompletionTimesForScheduledJobs());
+    /**
+     * Run the heuristics of the portfolio in parallel on the pool
+     * The best schedule becomes the first incumbent
+     */
+    private void runHeuristics() {
+        final List<HeuristicTask> tasks = new ArrayList<>();
+        for (Heuristic heuristic : Heuristic.portfolio()) {
+            tasks.add(new HeuristicTask(heuristic));
         }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
 
-        // Get main thread ID
-        mainThreadId = Thread.currentThread().getId();
+        // Update the best upper bound
+        // In case of a tie, the first heuristic of the portfolio wins
+        for (HeuristicTask task : tasks) {
+            if (updateSolution(task.solution, task.heuristic.getName())) {
+                bestHeuristic = task.heuristic.getName();
+            }
+        }
     }
 
     /**
@@ -94,182 +253,533 @@ public class BranchAndBound {
         }
     }
 
-    private int scheduleJob(int currentTime, Job j, Solution sol) {
-        // Get the release time and the processing time of the job
-        int releaseTime = j.getReleaseTime();
-        int processingTime = j.getProcessingTime();
+    /**
+     * Execute the Branch and Bound algorithm
+     * We don't build the whole enumeration tree, which is an expensive process
+     * We build the nodes of the tree dynamically when needed in order to safe memory
+     * In other words we build only the nodes that we have to explore
+     */
+    public void execute() {
+        startTime = System.nanoTime();
+        deadline = startTime + timeLimit;
+        long previousElapsedTime = 0;
 
-        // Compute the completion time for the job
-        int completionTime;
-        if (currentTime <= releaseTime) {
-            // The job has not yet been released at the current time
-            // will be scheduled at its release time
-            // and will be completed after processing time
-            completionTime = releaseTime + processingTime;
-            sol.processAndScheduleJob(j.getId(), releaseTime);
-        } else {
-            // The job has been released at the current time,
-            // will be scheduled at the current time
-            // and will be completed after processing time
-            completionTime = currentTime + processingTime;
-            sol.processAndScheduleJob(j.getId(), currentTime);
+        // Create the root of the B&B tree
+        // The root is at level 0 of the tree (k=0)
+        TreeNode root = new TreeNode(context);
+        // The lower bound of the root is the lower bound of the instance
+        SrptKernel kernel = SrptKernel.forCurrentThread(context);
+        kernel.loadScheduledJobs(root);
+        root.calculateLowerBound(kernel, -1);
+        long phaseStart = timer.stop(PhaseTimer.Phase.ROOT_BOUND, startTime);
+        List<TreeNode> nodes = new ArrayList<>();
+        nodes.add(root);
+
+        if (parameters.getCheckpointDirectory() != null) {
+            checkpointFile = Paths.get(parameters.getCheckpointDirectory(), "checkpoint-" + instance.getName() + ".bin");
+            if (parameters.isResume() && Files.exists(checkpointFile)) {
+                // Continue from the open nodes of the checkpoint
+                Checkpoint checkpoint = readCheckpoint();
+                if (checkpoint != null) {
+                    nodes = resume(root, checkpoint);
+                    previousElapsedTime = checkpoint.getElapsedTime();
+                }
+                phaseStart = timer.stop(PhaseTimer.Phase.CHECKPOINT, phaseStart);
+            }
+        }
+
+        // Write the checkpoint before the process terminates
+        final CountDownLatch terminated = new CountDownLatch(1);
+        Thread shutdownHook = null;
+        if (checkpointFile != null) {
+            shutdownHook = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    stop(SolverStatus.INTERRUPTED);
+                    try {
+                        terminated.await(CHECKPOINT_SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }, "checkpoint-on-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+
+        if (parameters.isLocalSearch()) {
+            // Improve the incumbents found by the heuristics and by the search
+            localSearch = new LocalSearch(instance, this);
+            localSearch.start();
+            localSearch.submit(getBestSolution());
+        }
+        try {
+            epochDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(parameters.getCheckpointInterval());
+            while (true) {
+                phaseStart = System.nanoTime();
+                epochStart = phaseStart;
+                search(nodes);
+                phaseStart = timer.stop(PhaseTimer.Phase.SEARCH, phaseStart);
+
+                // Collect the nodes left open by the workers
+                // They are kept in the order they have been recorded: the depth first workers
+                // record the deepest nodes first, so a new epoch continues the dives where they stopped
+                nodes = new ArrayList<>(openNodes);
+                openNodes.clear();
+                elapsedTime = previousElapsedTime + System.nanoTime() - startTime;
+                boolean finished = !epochEnded || stopped || nodes.isEmpty();
+                // An epoch ended only to let the other searches run is not checkpointed
+                if (checkpointFile != null && (finished || isCheckpointDue())) {
+                    writeCheckpoint(nodes);
+                    timer.stop(PhaseTimer.Phase.CHECKPOINT, phaseStart);
+                    epochDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(parameters.getCheckpointInterval());
+                }
+                if (finished) {
+                    break;
+                }
+                // Start a new epoch from the open nodes
+                // (after the work of the other searches, if the epoch ended to let them run)
+                epochEnded = false;
+            }
+            for (TreeNode node : nodes) {
+                openLowerBound = Math.min(openLowerBound, node.getLowerBound());
+            }
+        } finally {
+            if (localSearch != null) {
+                localSearch.stop();
+            }
+            elapsedTime = previousElapsedTime + System.nanoTime() - startTime;
+            terminated.countDown();
+            if (shutdownHook != null) {
+                try {
+                    Runtime.getRuntime().removeShutdownHook(shutdownHook);
+                } catch (IllegalStateException e) {
+                    // The process is already shutting down
+                }
+            }
         }
-        return completionTime;
     }
 
     /**
-     * Schedule the jobs in the order given by the instance without preemption
-     * The sum of the completion times is an upper bound for the instance
-     * @return the computed upper bound
+     * Execute the Branch and Bound algorithm within the time and node limits of the parameters
+     * @return the best solution found, with the lower bound proven by the search
      */
-    private Solution calculateLowerIndexFirstSchedule() {
-        // The current instant
-        int currentTime = 0;
+    public SolverResult solve() {
+        execute();
+        return getResult();
+    }
 
-        Solution solution = new Solution(instance);
-        // Schedule the jobs
-        for (Job j : instance.getJobs()) {
-            // Schedule the job and update the current instant
-            currentTime = scheduleJob(currentTime, j, solution);
-        }
-        // Return the result
-        return solution;
+    /**
+     * Set whether the pool is shared with the searches on other instances
+     * If it is, the search gives its workers back to the pool
+     * whenever another search is waiting for them
+     * @param sharedPool true if the pool is shared
+     */
+    public void setSharedPool(boolean sharedPool) {
+        this.sharedPool = sharedPool;
     }
 
     /**
-     * Schedule the jobs in the order given by the release time without preemption
-     * The sum of the completion times is an upper bound for the instance
-     * @return the computed upper bound
+     * Execute the Branch and Bound algorithm with a time limit other than the one of the parameters
+     * @param timeLimit the time limit, in nanoseconds, 0 for no limit
+     * @return the best solution found, with the lower bound proven by the search
      */
-    private Solution calculateLowerReleaseTimeFirstSchedule() {
-        // The current instant
-        int currentTime = 0;
+    public SolverResult solve(long timeLimit) {
+        this.timeLimit = timeLimit;
+        return solve();
+    }
 
-        Solution solution = new Solution(instance);
-        // Schedule the jobs
-        PriorityQueue<Integer> sortedJobs = instance.getJobsSortedByReleaseTime();
-        while (!sortedJobs.isEmpty()) {
-            // Get the job with the lowest release time
-            int jobId = sortedJobs.poll();
-            Job j = instance.getJob(jobId);
+    /**
+     * Explore the trees rooted in the nodes with the strategy of the parameters
+     * @param nodes the roots of the trees, in the order they are explored by the depth first strategy
+     */
+    private void search(List<TreeNode> nodes) {
+        if (parameters.getSearchStrategy() == SearchStrategy.DEPTH_FIRST) {
+            // The nodes need to be explored: branch
+            // The workers of the pool split the trees between them on demand
+            final List<BranchTask> tasks = new ArrayList<>();
+            for (TreeNode node : nodes) {
+                tasks.add(new BranchTask(node));
+            }
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        } else {
+            // The nodes are the first nodes of the global frontier
+            frontier = new Frontier(new MinLowerBoundFirst());
+            frontier.addAll(nodes);
 
-            // Schedule the job and update the current instant
-            currentTime = scheduleJob(currentTime, j, solution);
+            // Each worker of the pool repeatedly explores
+            // the most promising node of the frontier
+            final List<FrontierTask> tasks = new ArrayList<>();
+            for (int i = 0; i < pool.getParallelism(); i++) {
+                tasks.add(new FrontierTask());
+            }
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+            // The nodes not yet taken are left open
+            metrics.frontierSize(frontier.getPeakSize());
+            frontier.drainTo(openNodes);
         }
-        // Return the result
-        return solution;
     }
 
     /**
-     * Schedule the jobs in the order given by the processing time without preemption
-     * The sum of the completion times is an upper bound for the instance
-     * @return the computed upper bound
+     * Ask the algorithm to stop as soon as possible
+     * The workers abandon the subtrees not yet explored
      */
-    private Solution calculateLowerProcessingTimeFirstSchedule() {
-        // The current instant
-        int currentTime = 0;
+    public void stop() {
+        stop(SolverStatus.INTERRUPTED);
+    }
 
-        Solution solution = new Solution(instance);
-        // Schedule the jobs
-        PriorityQueue<Integer> sortedJobs = instance.getJobsSortedByProcessingTime();
-        while (!sortedJobs.isEmpty()) {
-            // Get the job with the lowest processing time
-            int jobId = sortedJobs.poll();
-            Job j = instance.getJob(jobId);
+    /**
+     * Ask the algorithm to stop as soon as possible
+     * @param reason the reason why the search is stopped
+     */
+    private void stop(SolverStatus reason) {
+        if (stopReason == null) {
+            stopReason = reason;
+        }
+        stopped = true;
+        Frontier f = frontier;
+        if (f != null) {
+            f.close();
+        }
+    }
 
-            // Schedule the job and update the current instant
-            currentTime = scheduleJob(currentTime, j, solution);
+    /**
+     * End the current epoch of the search
+     * The workers leave their nodes open, as if the search had been stopped
+     */
+    private void endEpoch() {
+        epochEnded = true;
+        Frontier f = frontier;
+        if (f != null) {
+            f.close();
         }
-        // Return the result
-        return solution;
     }
 
     /**
-     * Compare two jobs considering the release time
+     * Check, once every CHECK_INTERVAL nodes expanded by the worker,
+     * the conditions which are shared with the other workers and costly to read
+     * The node limit is checked against the sum of the counters of all the workers,
+     * so the search can expand up to CHECK_INTERVAL more nodes per worker
+     * If the pool is shared and another search has submitted work,
+     * the current epoch ends: the workers leave their nodes open and serve the other search,
+     * and this search continues from the open nodes in a new epoch
+     * An epoch lasts at least YIELD_TIME_SLICE milliseconds, so two large searches
+     * sharing the pool do not keep ending each other's epochs
      */
-    class MinProcessingTimeFirst implements Comparator<Integer> {
+    private void checkPeriodically() {
+        int[] countdown = nodesBeforeCheck.get();
+        if (--countdown[0] > 0) {
+            return;
+        }
+        countdown[0] = CHECK_INTERVAL;
+        if (parameters.getNodeLimit() > 0 && metrics.getNodesExpanded() >= parameters.getNodeLimit()) {
+            stop(SolverStatus.NODE_LIMIT);
+            return;
+        }
+        if (sharedPool && System.nanoTime() - epochStart >= TimeUnit.MILLISECONDS.toNanos(YIELD_TIME_SLICE) &&
+                pool.hasQueuedSubmissions()) {
+            endEpoch();
+        }
+    }
 
-        @Override
-        public int compare(Integer j1, Integer j2) {
-            return Integer.compare(instance.getJob(j1).getProcessingTime(), instance.getJob(j2).getProcessingTime());
+    /**
+     * Check if the search (or the current epoch) has to be stopped
+     * The time limit is checked here, so the search stops at the next node after it is reached
+     * (the node limit is checked by checkPeriodically())
+     * @return true if the search has to be stopped, false otherwise
+     */
+    private boolean isStopped() {
+        if (stopped || epochEnded) {
+            return true;
         }
+        if (timeLimit > 0 && System.nanoTime() - deadline >= 0) {
+            stop(SolverStatus.TIME_LIMIT);
+            return true;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            stop(SolverStatus.INTERRUPTED);
+            return true;
+        }
+        if (checkpointFile != null && isCheckpointDue()) {
+            endEpoch();
+            return true;
+        }
+        return false;
     }
 
+    /**
+     * Check if a periodic checkpoint has to be written
+     * @return true if the checkpoints are written periodically and the current interval has elapsed
+     */
+    private boolean isCheckpointDue() {
+        return parameters.getCheckpointInterval() > 0 && System.nanoTime() - epochDeadline >= 0;
+    }
 
     /**
-     * Schedule the jobs in the order given by the processing time without preemption
-     * The sum of the completion times is an upper bound for the instance
-     * @return the computed upper bound
+     * Record a node left open by a stopped search
+     * The node and its ancestors are not recycled anymore
+     * @param node the node
      */
-    private Solution calculateLowerProcessingTimeLowerReleaseTimeFirstSchedule() {
-        // The current instant
-        int currentTime = 0;
+    private void recordOpenNode(TreeNode node) {
+        openNodes.add(node);
+    }
 
-        Solution solution = new Solution(instance);
-        // Schedule the jobs
-        PriorityQueue<Integer> sortedJobs = instance.getJobsSortedByReleaseTime();
-        PriorityQueue<Integer> releasedJobs = new PriorityQueue<>(new MinProcessingTimeFirst());
-        do {
-            if (!sortedJobs.isEmpty()) {
-                int jobId = sortedJobs.peek();
-                Job j = instance.getJob(jobId);
-                currentTime = Math.max(j.getReleaseTime(), currentTime);
-            }
-            while (!sortedJobs.isEmpty()) {
-                // Get the job with the lowest release time
-                int jobId = sortedJobs.peek();
-                Job j = instance.getJob(jobId);
-                if (j.getReleaseTime() <= currentTime) {
-                    // Job released
-                    releasedJobs.add(jobId);
-                    sortedJobs.poll();
-                } else {
-                    break;
+    /**
+     * Rebuild the open nodes of a checkpoint and restore its incumbent and its counters
+     * The nodes which share a prefix of their partial solutions share the ancestors
+     * @param root the root of the tree
+     * @param checkpoint the checkpoint
+     * @return the open nodes, ordered by lower bound
+     */
+    private List<TreeNode> resume(TreeNode root, Checkpoint checkpoint) {
+        // Restore the incumbent
+        int[] startInstants = checkpoint.getIncumbent();
+        if (startInstants != null) {
+            Solution solution = new Solution(instance);
+            for (int jobId = 1; jobId <= startInstants.length; jobId++) {
+                if (startInstants[jobId-1] >= 0) {
+                    solution.processAndScheduleJob(jobId, startInstants[jobId-1]);
                 }
             }
+            updateSolution(solution, "checkpoint");
+        }
 
-            while (!releasedJobs.isEmpty()) {
-                // Get the job with the lowest release time
-                int jobId = releasedJobs.poll();
-                Job j = instance.getJob(jobId);
+        // Restore the counters
+        metrics.restore(checkpoint.getCountExpandedNodes(), checkpoint.getCountPruned(),
+                checkpoint.getCountFoundPreemptive());
 
-                // Schedule the job and update the current instant
-                currentTime = scheduleJob(currentTime, j, solution);
+        // Rebuild the open nodes
+        SrptKernel kernel = SrptKernel.forCurrentThread(context);
+        List<TreeNode> nodes = new ArrayList<>();
+        TreeNode[] path = new TreeNode[instance.getNumberOfJobs() + 1];
+        path[0] = root;
+        int[] previous = new int[0];
+        for (int[] sequence : checkpoint.getOpenSequences()) {
+            // The nodes of the common prefix have already been built
+            int prefix = 0;
+            while (prefix < previous.length && prefix < sequence.length && previous[prefix] == sequence[prefix]) {
+                prefix++;
+            }
+            for (int k = prefix; k < sequence.length; k++) {
+                TreeNode child = new TreeNode();
+                child.initChild(path[k], sequence[k], DominanceRule.startInstant(context, path[k], sequence[k]));
+                path[k+1] = child;
             }
-        } while(!sortedJobs.isEmpty());
+            TreeNode node = path[sequence.length];
+            kernel.loadScheduledJobs(node);
+            node.calculateLowerBound(kernel, -1);
+            nodes.add(node);
+            previous = sequence;
+        }
+        Collections.sort(nodes, new MinLowerBoundFirst());
+        return nodes;
+    }
 
-        // Return the result
-        return solution;
+    /**
+     * Read the checkpoint of the instance
+     * @return the checkpoint, or null if it cannot be used
+     */
+    private Checkpoint readCheckpoint() {
+        try {
+            Checkpoint checkpoint = Checkpoint.read(checkpointFile);
+            if (!checkpoint.matches(instance)) {
+                System.err.println("Checkpoint " + checkpointFile + " belongs to another instance, ignored");
+                return null;
+            }
+            return checkpoint;
+        } catch (IOException e) {
+            System.err.println("Cannot read checkpoint " + checkpointFile + ": " + e);
+            return null;
+        }
     }
 
     /**
-     * Execute the Branch and Bound algorithm
-     * We don't build the whole enumeration tree, which is an expensive process
-     * We build the nodes of the tree dynamically when needed in order to safe memory
-     * In other words we build only the nodes that we have to explore
+     * Write the checkpoint of the search
+     * @param nodes the open nodes
      */
-    public void execute() {
-        // Create the root of the B&B tree
-        // The root is at level 0 of the tree (k=0)
-        int k = 0;
-        TreeNode root = new TreeNode(instance, k);
+    private void writeCheckpoint(List<TreeNode> nodes) {
+        // Sort the partial solutions, so that the common prefixes are stored once
+        List<int[]> sequences = new ArrayList<>(nodes.size());
+        final Map<int[], Integer> lowerBounds = new IdentityHashMap<>();
+        for (TreeNode node : nodes) {
+            int[] sequence = node.getJobSequence();
+            sequences.add(sequence);
+            lowerBounds.put(sequence, node.getLowerBound());
+        }
+        Collections.sort(sequences, new Comparator<int[]>() {
+            @Override
+            public int compare(int[] s1, int[] s2) {
+                for (int i = 0; i < s1.length && i < s2.length; i++) {
+                    if (s1[i] != s2[i]) {
+                        return Integer.compare(s1[i], s2[i]);
+                    }
+                }
+                return Integer.compare(s1.length, s2.length);
+            }
+        });
+        int[] openLowerBounds = new int[sequences.size()];
+        for (int i = 0; i < sequences.size(); i++) {
+            openLowerBounds[i] = lowerBounds.get(sequences.get(i));
+        }
+
+        // Store the incumbent as the start instant of each job
+        int[] startInstants = null;
+        Solution best = getBestSolution();
+        if (best != null) {
+            startInstants = new int[instance.getNumberOfJobs()];
+            for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+                startInstants[jobId-1] = best.isScheduled(jobId) ? best.getStartInstantForScheduledJob(jobId) : -1;
+            }
+        }
 
-        // The root needs to be explored: branch
-        branch(root);
+        Checkpoint checkpoint = new Checkpoint(instance, startInstants, metrics.getNodesExpanded(),
+                metrics.getPrunedByDominance(), metrics.getFoundNotPreemptive(), elapsedTime, sequences, openLowerBounds);
+        try {
+            checkpoint.write(checkpointFile);
+        } catch (IOException e) {
+            System.err.println("Cannot write checkpoint " + checkpointFile + ": " + e);
+        }
+    }
+
+    /**
+     * Explore the nodes of the global frontier
+     * starting from the one with the smallest lower bound
+     * until the frontier is empty
+     */
+    private void exploreFrontier() {
+        TreeNode node;
+        while (!isStopped() && (node = frontier.take()) != null) {
+            try {
+                if (node.getLowerBound() >= getUpperBound()) {
+                    // The upper bound has been improved since the node has been added
+                    metrics.prunedByBound();
+                    continue;
+                }
+                if (parameters.getSearchStrategy() == SearchStrategy.HYBRID &&
+                        frontier.size() >= parameters.getFrontierLimit()) {
+                    // The frontier is too large: dive depth first into the node
+                    branch(node);
+                } else {
+                    // Add the promising children to the frontier
+                    frontier.addAll(expand(node));
+                }
+            } finally {
+                frontier.release();
+            }
+        }
     }
 
     /**
      * Branch the node
-     * and mark the promising node as active in order
-     * to explore them in the next step of the algorithm
-     * Update the current upper bound and the current solution if better values are found
+     * and explore the promising children depth first
+     * starting from the one with the smallest lower bound
      * @param node the node
      */
     private void branch(TreeNode node) {
-        if (Thread.currentThread().isInterrupted()) {
+        if (isStopped()) {
+            // The subtree of the node is left unexplored
+            recordOpenNode(node);
             return;
         }
 
+        MinMaxPriorityQueue<TreeNode> activeNodes = expand(node);
+
+        // Explore all the active nodes starting from the most promising,
+        // the one with the smallest lower bound
+        // Subtrees handed to other workers, to be joined before returning
+        Deque<BranchTask> forkedTasks = new ArrayDeque<>();
+        while (!activeNodes.isEmpty()) {
+            if (isStopped()) {
+                // The remaining children are left unexplored
+                while (!activeNodes.isEmpty()) {
+                    recordOpenNode(activeNodes.pollFirst());
+                }
+                break;
+            }
+            if (activeNodes.size() > 1 && split(activeNodes, forkedTasks)) {
+                continue;
+            }
+
+            // Search for the node with the smallest lower bound...
+            TreeNode nodeWithSmallestLB;
+            nodeWithSmallestLB = activeNodes.pollFirst();
+
+            // ...and branch it
+            if (nodeWithSmallestLB.getLowerBound() < getUpperBound()) {
+                branch(nodeWithSmallestLB);
+            } else {
+                // The upper bound has been improved since the node has been bounded
+                metrics.prunedByBound();
+            }
+            recycle(nodeWithSmallestLB);
+        }
+
+        // Wait for the subtrees handed to other workers
+        // (if nobody stole them, this worker explores them)
+        while (!forkedTasks.isEmpty()) {
+            forkedTasks.pop().join();
+        }
+    }
+
+    /**
+     * Recycle a node whose subtree has been explored
+     * Only the depth first strategy recycles the nodes: with a global frontier
+     * the open children of a node can still reference it
+     * Once the search is stopped, the nodes left open can reference any node
+     * @param node the node
+     */
+    private void recycle(TreeNode node) {
+        if (frontier == null && !stopped && !epochEnded) {
+            NodePool.forCurrentThread().release(node);
+        }
+    }
+
+    /**
+     * Hand a subtree to the other workers, if they need work
+     * @param activeNodes the active children of the node being branched
+     * @param forkedTasks the subtrees handed to other workers
+     * @return true if a subtree has been handed to the other workers
+     */
+    private boolean split(MinMaxPriorityQueue<TreeNode> activeNodes, Deque<BranchTask> forkedTasks) {
+        if (frontier != null) {
+            // Diving from the frontier (hybrid strategy):
+            // give back the least promising node if the frontier is not full anymore
+            if (frontier.size() < parameters.getFrontierLimit()) {
+                frontier.add(activeNodes.pollLast());
+                return true;
+            }
+            return false;
+        }
+        if (ForkJoinTask.getSurplusQueuedTaskCount() < SPLIT_THRESHOLD) {
+            // Few subtrees are waiting in the deque of this worker:
+            // offer the least promising node to the idle workers
+            // and keep diving on the most promising ones
+            BranchTask task = new BranchTask(activeNodes.pollLast());
+            task.fork();
+            forkedTasks.push(task);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Expand the node
+     * and mark the promising children as active in order
+     * to explore them in the next step of the algorithm
+     * Update the current upper bound and the current solution if better values are found
+     * @param node the node
+     * @return the active children, ordered by lower bound
+     */
+    private MinMaxPriorityQueue<TreeNode> expand(TreeNode node) {
         // Priority queue containing the active nodes
         // During the execution we discard the nodes which
         // don't minimize the sum of the completion times
@@ -277,49 +787,85 @@ public class BranchAndBound {
         // which has to be explored by the next steps
         // of the B&B algorithm
         @SuppressWarnings("UnstableApiUsage")
-        com.google.common.collect.MinMaxPriorityQueue<TreeNode> activeNodes = com.google.common.collect.MinMaxPriorityQueue
+        MinMaxPriorityQueue<TreeNode> activeNodes = MinMaxPriorityQueue
                 .orderedBy(new MinLowerBoundFirst())
-                .expectedSize(instance.getNumberOfJobs() - node.getK())
+                .expectedSize(context.getNumberOfJobs() - node.getK())
                 .create();
 
+        metrics.nodeExpanded();
+        checkPeriodically();
+        long expandStart = System.nanoTime();
+
+        // The kernel of the current thread computes the lower bounds of the children
+        SrptKernel kernel = SrptKernel.forCurrentThread(context);
+        kernel.loadScheduledJobs(node);
+        NodePool nodePool = NodePool.forCurrentThread();
+        // The set of the jobs scheduled in the partial solution of the node
+        JobSet scheduledJobs = kernel.getScheduledJobs();
+
         int startInstant;
         // Mark as active all the promising nodes
-        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
-            if (node.getPartialSolution().isScheduled(jobId)) {
-                // The job is already scheduled in the partial solution
+        // The jobs already scheduled in the partial solution are skipped
+        for (int jobId = scheduledJobs.nextAbsent(1); jobId != -1; jobId = scheduledJobs.nextAbsent(jobId + 1)) {
+            if (isDominated(node, jobId, kernel)) {
+                // The optimal solution is not on this branch:
+                // there is no need to compute the lower bound
+                metrics.prunedByDominance();
                 continue;
             }
 
-            if (instance.getJob(jobId).getReleaseTime() > node.getPartialSolution().makeSpan()) {
+            if (context.getReleaseTime(jobId) > node.getMakespan()) {
                 // The job has not yet been released
                 // The start instant is the release time
-                startInstant = instance.getJob(jobId).getReleaseTime();
+                startInstant = context.getReleaseTime(jobId);
             } else {
                 // The job has been released
                 // The start instant is the completion time of the current schedule
-                startInstant = node.getPartialSolution().makeSpan();
+                startInstant = node.getMakespan();
             }
-            // Create a new tree node which consider the current partial schedule + the new job
-            // Increase k because the node is located at a lower level in the enumeration tree
-            int k = node.getK() + 1;
-            TreeNode child = new TreeNode(instance, node.getPartialSolution(), k);
 
-            // Schedule the new job
-            child.getPartialSolution().processAndScheduleJob(jobId, startInstant);
+            if (stateTable != null) {
+                // Compare the partial solution with the other orders of the same jobs met so far
+                int completionTime = startInstant + context.getProcessingTime(jobId);
+                scheduledJobs.add(jobId);
+                boolean dominated = stateTable.isDominated(scheduledJobs, completionTime,
+                        node.getSumOfCompletionTimes() + completionTime);
+                scheduledJobs.remove(jobId);
+                if (dominated) {
+                    metrics.prunedByDominance();
+                    continue;
+                }
+            }
+            // Create a new tree node which consider the current partial schedule + the new job
+            // The node is located at a lower level in the enumeration tree
+            TreeNode child = nodePool.acquire();
+            child.initChild(node, jobId, startInstant);
+            metrics.nodeCreated();
 
-            // Compute a lower bound for the new node
-            child.calculateLowerBound();
+            // Compute a lower bound for the new node,
+            // reusing the relaxation of the parent when possible
+            long boundStart = System.nanoTime();
+            if (child.calculateLowerBound(kernel)) {
+                timer.recordBound(System.nanoTime() - boundStart);
+                metrics.boundComputed();
+            } else {
+                metrics.boundInherited();
+            }
 
             // If the computed schedule is not preemptive
             // the computed lower bound is also an upper bound for the instance
             if (!child.isPreemptive()) {
-                // Get the schedule...
-                child.getNotPreemptiveSchedule();
-                // ...and update upper bound
-                if (updateSolution(child.getPartialSolution())) {
-                    setUpperBound(child.getLowerBound());
+                // Get the schedule and update upper bound
+                // (the solution is built only if it is better)
+                if (child.getLowerBound() < getUpperBound()) {
+                    updateSolution(child.getNotPreemptiveSchedule(), "search");
                 }
-                countFoundPreemptive++;
+                metrics.notPreemptiveFound();
+                // The child is a leaf of the explored tree: its subtree is not explored
+                // (the last levels of the tree are never created, since the relaxation
+                // is not preemptive once all the remaining jobs have been released)
+                metrics.leafReached();
+                nodePool.release(child);
                 continue;
             }
 
@@ -329,107 +875,112 @@ public class BranchAndBound {
             // we mark the node as an active node and we'll explore the node in the future
             // Prune those nodes with higher lower bound than the current upper bound
             if (child.getLowerBound() <= getUpperBound()) {
-                // Check pruning condition
-                boolean prune = false;
-                for (int jobId2 = 1; jobId2 <= instance.getNumberOfJobs(); jobId2++) {
-                    if (jobId == jobId2)
-                        // Skip the job itself
-                        continue;
-                    if (!node.getPartialSolution().isScheduled(jobId2) &&
-                            checkPruningCondition(jobId, jobId2, node.getPartialSolution().makeSpan())) {
-                        prune = true;
-                        countPruned++;
-                        break;
-                    }
-                }
-
-                if (prune) {
-                    // If the condition is satisfied for some job
-                    // the optimal solution is not on this branch
-                    continue;
-                }
-
                 // The lower bound is lower than the best known upper bound
-                // and the pruning condition is not satisfied
+                // and the child is not dominated
                 // The node needs to be explored in the next steps,
                 // mark as active
                 activeNodes.add(child);
-                if (child.getK() == instance.getNumberOfJobs()) {
-                    // The node is a leaf of the tree,
-                    // the found solution is a non-preemptive solution
-                    // and the found lower bound is also an upper bound for the instance
-                    if (updateSolution(child.getPartialSolution())) {
-                        // Mark the new solution as best known solution,
-                        // if it minimizes the sum of the completion times
-                        // and update the best known upper bound
-                        setUpperBound(child.getLowerBound());
-                    }
-                    // We explored this leaf node, so we can unmark it
-                    activeNodes.remove(child);
-                }
+            } else {
+                metrics.prunedByBound();
+                nodePool.release(child);
             }
         }
-        // Explore all the active nodes starting from the most promising,
-        // the one with the smallest lower bound
-        while (!activeNodes.isEmpty()) {
-            // Search for the node with the smallest lower bound...
-            TreeNode nodeWithSmallestLB;
-            nodeWithSmallestLB = activeNodes.pollFirst();
 
-            // ...and branch it
-            if (nodeWithSmallestLB.getLowerBound() < getUpperBound()) {
-                if (Thread.currentThread().getId() == mainThreadId && node.getK() == instance.getNumberOfJobs()/4) {
-                    // Assign the job to a secondary thread
-                    Runnable worker = new WorkerThread(nodeWithSmallestLB);
-                    executor.execute(worker);
-                } else {
-                    // Branch
-                    branch(nodeWithSmallestLB);
-                }
-            }
+        // The children have been bounded: the relaxation of the node is not needed anymore
+        node.clearRelaxation();
+        timer.addBusyTime(System.nanoTime() - expandStart);
+        return activeNodes;
+    }
+
+    /**
+     * Update the best solution and the best known upper bound
+     * @param sol the new solution
+     * @param source what found the solution
+     * @return true if the solution is updated, false otherwise
+     */
+    private boolean updateSolution(Solution sol, String source) {
+        if (!publishSolution(sol, source)) {
+            return false;
+        }
+        // Try to improve the new incumbent
+        LocalSearch ls = localSearch;
+        if (ls != null) {
+            ls.submit(sol);
         }
+        return true;
     }
 
     /**
-     * Update the best solution
+     * Update the best solution and the best known upper bound
+     * with a solution improved by the local search
+     * @param sol the improved solution
+     * @return true if the solution is updated, false otherwise
+     */
+    boolean offerImprovedSolution(Solution sol) {
+        return publishSolution(sol, "local-search");
+    }
+
+    /**
+     * Publish a solution as the new incumbent, if it is better than the current one
      * @param sol the new solution
+     * @param source what found the solution
      * @return true if the solution is updated, false otherwise
      */
-    private boolean updateSolution(Solution sol) {
-        if (getBestSolution() == null) {
-            // We have not yet any solution
-            // Actually the new solution is the best solution
-            setBestSolution(sol);
-            return true;
-        } else if (sol.sumOfCompletionTimesForScheduledJobs() < getBestSolution().sumOfCompletionTimesForScheduledJobs()) {
-            // The new solution is better then the known solution,
-            // update the best solution
-            setBestSolution(sol);
-            return true;
+    private boolean publishSolution(Solution sol, String source) {
+        int sumOfCompletionTimes = sol.sumOfCompletionTimesForScheduledJobs();
+        Incumbent candidate = null;
+        Incumbent current;
+        do {
+            current = incumbent.get();
+            if (sumOfCompletionTimes >= current.getUpperBound()) {
+                // The known solution is better then the new solution
+                return false;
+            }
+            if (candidate == null) {
+                // The new solution is better then the known solution,
+                // publish the upper bound and the solution together
+                candidate = new Incumbent(sumOfCompletionTimes, sol);
+            }
+            // Retry if another worker has updated the incumbent in the meantime
+        } while (!incumbent.compareAndSet(current, candidate));
+        metrics.incumbentUpdated(sumOfCompletionTimes, source);
+        return true;
+    }
+
+    /**
+     * Check if the child obtained appending the job to the partial solution of the node
+     * is dominated by another node, according to the enabled dominance rules
+     * @param node the node being expanded
+     * @param jobId the id of the job
+     * @param kernel the kernel of the current thread, loaded with the scheduled jobs of the node
+     * @return true if the subtree rooted in the child has to be pruned
+     */
+    private boolean isDominated(TreeNode node, int jobId, SrptKernel kernel) {
+        for (DominanceRule rule : dominanceRules) {
+            if (rule.isDominated(context, node, jobId, kernel)) {
+                return true;
+            }
         }
-        // The known solution is better then the new solution
         return false;
     }
 
     /**
-     * Check if the subtree rooted in node j has to be pruned.
-     *
-     * If releaseTime of job j >= max{ t, releaseTime of job i } + processingTime of job i for each i in otherNodes,
-     * then the job i can be done entirely before the job j is released.
-     * Therefore the subtree rooted in j can be pruned because it does not lead to an optimal solution.
-     * The value t is the time of completion of the sequence of jobs leading to job j.
-     * @param jobId first job
-     * @param jobId2 second job
-     * @param currentInstant currentInstant
-     * @return true if the input subtree has to be pruned
+     * Get the result of the search
+     * If the search has been stopped, the lower bound is the smallest lower bound
+     * of the nodes left open (the open frontier and the unexplored subtrees)
+     * @return the result
      */
-    private boolean checkPruningCondition(int jobId, int jobId2, int currentInstant) {
-        int releaseTimeJ = instance.getJob(jobId).getReleaseTime();
-
-        int releaseTimeI = instance.getJob(jobId2).getReleaseTime();
-        int processingTimeI = instance.getJob(jobId2).getProcessingTime();
-        // Pruning condition
-        return releaseTimeJ >= Math.max(currentInstant, releaseTimeI) + processingTimeI;
+    public SolverResult getResult() {
+        Incumbent best = incumbent.get();
+        int lowerBound = best.getUpperBound();
+        SolverStatus status = SolverStatus.OPTIMAL;
+        if (stopped && openLowerBound < lowerBound) {
+            // Some nodes which could improve the solution have not been explored
+            lowerBound = openLowerBound;
+            status = stopReason;
+        }
+        return new SolverResult(best.getSolution(), best.getUpperBound(), lowerBound, status,
+                metrics, timer, elapsedTime);
     }
 
     /* Getters and Setters */
@@ -438,62 +989,154 @@ public class BranchAndBound {
      * Get the best known upper bound
      * @return the upper bound
      */
-    private int getUpperBound() {
-        return upperBound;
+    int getUpperBound() {
+        return incumbent.get().getUpperBound();
     }
 
     /**
-     * Update the best known upper bound
-     * @param upperBound the upper bound
+     * Get the best known solution
+     * @return the solution
      */
-    private synchronized void setUpperBound(int upperBound) {
-        this.upperBound = upperBound;
+    public Solution getBestSolution() {
+        return incumbent.get().getSolution();
     }
 
     /**
-     * Get the best known solution
-     * @return the solution
+     * Get the metrics of the search
+     * They are updated while the search is running
+     * @return the metrics
      */
-    public Solution getBestSolution() {
-        return bestSolution;
+    public SearchMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Get the time spent in each phase of the run
+     * @return the timer
+     */
+    public PhaseTimer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Get the number of open nodes in the global frontier
+     * @return the size of the frontier, 0 for the depth first strategy
+     */
+    int getFrontierSize() {
+        Frontier f = frontier;
+        return f != null ? f.size() : 0;
+    }
+
+    /**
+     * Get the number of nodes pruned by the dominance rules and by the state table
+     * @return the number of pruned nodes
+     */
+    public long getCountPruned() {
+        return metrics.getPrunedByDominance();
     }
 
     /**
-     * Set the best known solution
-     * @param bestSolution the solution
+     * Get the number of nodes pruned by each enabled dominance rule
+     * @return the number of pruned nodes, by name of the rule
      */
-    private synchronized void setBestSolution(Solution bestSolution) {
-        this.bestSolution = bestSolution;
+    public Map<String, Long> getCountPrunedByRule() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (DominanceRule rule : dominanceRules) {
+            counts.put(rule.getName(), rule.getCountPruned());
+        }
+        return counts;
+    }
+
+    /**
+     * Get the number of nodes pruned by the state table
+     * @return the number of pruned nodes, 0 if the state table is disabled
+     */
+    public long getCountPrunedByStateTable() {
+        return stateTable != null ? stateTable.getCountPruned() : 0;
     }
 
     /**
-     * Get count of pruned
+     * Get the name of the heuristic which found the first incumbent
+     * @return the name of the heuristic
      */
-    public int getCountPruned() {
-        return countPruned;
+    public String getBestHeuristic() {
+        return bestHeuristic;
     }
 
     /**
-     * Get count of found preemptive
+     * Get the number of incumbents found by the local search
+     * @return the number of improvements
      */
-    public int getCountFoundPreemptive() {
-        return countFoundPreemptive;
+    public int getCountLocalSearchImprovements() {
+        LocalSearch ls = localSearch;
+        return ls != null ? ls.getCountImprovements() : 0;
     }
 
     /**
-     * Define a worker thread
+     * Get the number of nodes whose preemptive relaxation is not preemptive
+     * @return the number of nodes
      */
-    public class WorkerThread implements Runnable {
+    public long getCountFoundPreemptive() {
+        return metrics.getFoundNotPreemptive();
+    }
+
+    /**
+     * Define a task which explores the subtree rooted in a node
+     * The task can be stolen by any idle worker of the pool
+     */
+    private class BranchTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
 
         private TreeNode node;
 
-        private WorkerThread(TreeNode node){
-            this.node=node;
+        private BranchTask(TreeNode node) {
+            this.node = node;
         }
 
         @Override
-        public void run() {
-            branch(node);
+        protected void compute() {
+            // The upper bound could be improved since the task has been created
+            if (node.getLowerBound() < getUpperBound()) {
+                branch(node);
+            } else {
+                metrics.prunedByBound();
+            }
+            recycle(node);
+        }
+    }
+
+    /**
+     * Define a task which runs a heuristic of the portfolio
+     */
+    private class HeuristicTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private Heuristic heuristic;
+
+        private Solution solution;
+
+        private HeuristicTask(Heuristic heuristic) {
+            this.heuristic = heuristic;
+        }
+
+        @Override
+        protected void compute() {
+            solution = heuristic.schedule(instance);
+        }
+    }
+
+    /**
+     * Define a task which explores the nodes of the global frontier
+     */
+    private class FrontierTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+            exploreFrontier();
         }
     }
 
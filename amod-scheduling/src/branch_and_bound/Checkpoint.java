@@ -0,0 +1,307 @@
+package branch_and_bound;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents a checkpoint of the search on an instance:
+ * the open nodes, the incumbent and the counters
+ *
+ * An open node is stored as the sequence of its jobs and its lower bound
+ * The nodes are sorted by sequence, so each one is stored as the length
+ * of the prefix shared with the previous node followed by the rest of its jobs
+ * The incumbent is stored as the start instant of each job
+ *
+ * The file starts with the magic number "AMCK" and the version of the format,
+ * followed by the name of the instance and a fingerprint of its jobs,
+ * so a checkpoint is never resumed on a different instance
+ * Job ids and sequence lengths take one byte if the instance has less than 256 jobs,
+ * two bytes otherwise
+ * The file is written in a temporary file and then renamed,
+ * so a process killed while writing leaves the previous checkpoint intact
+ */
+final class Checkpoint {
+    /**
+     * The magic number at the beginning of a file ("AMCK")
+     */
+    private static final int MAGIC = 0x414D434B;
+
+    /**
+     * The version of the format
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The name of the instance
+     */
+    private final String instanceName;
+
+    /**
+     * The fingerprint of the jobs of the instance
+     */
+    private final long fingerprint;
+
+    /**
+     * The number of jobs of the instance
+     */
+    private final int numberOfJobs;
+
+    /**
+     * The start instant of each job in the incumbent (index jobId-1), null if there is no incumbent
+     */
+    private final int[] incumbent;
+
+    /**
+     * The number of nodes expanded
+     */
+    private final long countExpandedNodes;
+
+    /**
+     * The number of nodes pruned
+     */
+    private final long countPruned;
+
+    /**
+     * The number of non preemptive relaxations found
+     */
+    private final long countFoundPreemptive;
+
+    /**
+     * The time spent on the instance, in nanoseconds
+     */
+    private final long elapsedTime;
+
+    /**
+     * The job sequences of the open nodes, sorted
+     */
+    private final List<int[]> openSequences;
+
+    /**
+     * The lower bounds of the open nodes, in the order of the sequences
+     */
+    private final int[] openLowerBounds;
+
+    /**
+     * Constructor
+     * @param instance the instance
+     * @param incumbent the start instant of each job in the incumbent, null if there is no incumbent
+     * @param countExpandedNodes the number of nodes expanded
+     * @param countPruned the number of nodes pruned
+     * @param countFoundPreemptive the number of non preemptive relaxations found
+     * @param elapsedTime the time spent on the instance, in nanoseconds
+     * @param openSequences the job sequences of the open nodes, sorted
+     * @param openLowerBounds the lower bounds of the open nodes
+     */
+    Checkpoint(Instance instance, int[] incumbent, long countExpandedNodes, long countPruned,
+               long countFoundPreemptive, long elapsedTime, List<int[]> openSequences, int[] openLowerBounds) {
+        this(instance.getName(), fingerprint(instance), instance.getNumberOfJobs(), incumbent,
+                countExpandedNodes, countPruned, countFoundPreemptive, elapsedTime, openSequences, openLowerBounds);
+    }
+
+    private Checkpoint(String instanceName, long fingerprint, int numberOfJobs, int[] incumbent,
+                       long countExpandedNodes, long countPruned, long countFoundPreemptive, long elapsedTime,
+                       List<int[]> openSequences, int[] openLowerBounds) {
+        this.instanceName = instanceName;
+        this.fingerprint = fingerprint;
+        this.numberOfJobs = numberOfJobs;
+        this.incumbent = incumbent;
+        this.countExpandedNodes = countExpandedNodes;
+        this.countPruned = countPruned;
+        this.countFoundPreemptive = countFoundPreemptive;
+        this.elapsedTime = elapsedTime;
+        this.openSequences = openSequences;
+        this.openLowerBounds = openLowerBounds;
+    }
+
+    /**
+     * Compute the fingerprint of the jobs of an instance
+     * @param instance the instance
+     * @return the fingerprint
+     */
+    static long fingerprint(Instance instance) {
+        long hash = instance.getNumberOfJobs();
+        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+            hash = 31 * hash + instance.getProcessingTime(jobId);
+            hash = 31 * hash + instance.getReleaseTime(jobId);
+        }
+        return hash;
+    }
+
+    /**
+     * Check if the checkpoint has been written for an instance
+     * @param instance the instance
+     * @return true if the instance has the same name and the same jobs
+     */
+    boolean matches(Instance instance) {
+        return instanceName.equals(instance.getName()) &&
+                numberOfJobs == instance.getNumberOfJobs() &&
+                fingerprint == fingerprint(instance);
+    }
+
+    /**
+     * Write the checkpoint in a file
+     * The previous content of the file is replaced only when the checkpoint is complete
+     * @param file the file
+     * @throws IOException if the file cannot be written
+     */
+    void write(Path file) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        boolean wide = numberOfJobs > 255;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(instanceName);
+            out.writeLong(fingerprint);
+            out.writeInt(numberOfJobs);
+
+            // Counters
+            out.writeLong(countExpandedNodes);
+            out.writeLong(countPruned);
+            out.writeLong(countFoundPreemptive);
+            out.writeLong(elapsedTime);
+
+            // Incumbent
+            out.writeBoolean(incumbent != null);
+            if (incumbent != null) {
+                for (int startInstant : incumbent) {
+                    out.writeInt(startInstant);
+                }
+            }
+
+            // Open nodes, sharing the prefix with the previous one
+            out.writeInt(openSequences.size());
+            int[] previous = new int[0];
+            for (int i = 0; i < openSequences.size(); i++) {
+                int[] sequence = openSequences.get(i);
+                int prefix = 0;
+                while (prefix < previous.length && prefix < sequence.length && previous[prefix] == sequence[prefix]) {
+                    prefix++;
+                }
+                out.writeInt(openLowerBounds[i]);
+                writeSmall(out, prefix, wide);
+                writeSmall(out, sequence.length - prefix, wide);
+                for (int k = prefix; k < sequence.length; k++) {
+                    writeSmall(out, sequence[k], wide);
+                }
+                previous = sequence;
+            }
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read a checkpoint from a file
+     * @param file the file
+     * @return the checkpoint
+     * @throws IOException if the file cannot be read or is not a checkpoint
+     */
+    static Checkpoint read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file + " is not a checkpoint");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version " + version + " of checkpoint " + file);
+            }
+            String instanceName = in.readUTF();
+            long fingerprint = in.readLong();
+            int numberOfJobs = in.readInt();
+            boolean wide = numberOfJobs > 255;
+
+            // Counters
+            long countExpandedNodes = in.readLong();
+            long countPruned = in.readLong();
+            long countFoundPreemptive = in.readLong();
+            long elapsedTime = in.readLong();
+
+            // Incumbent
+            int[] incumbent = null;
+            if (in.readBoolean()) {
+                incumbent = new int[numberOfJobs];
+                for (int i = 0; i < numberOfJobs; i++) {
+                    incumbent[i] = in.readInt();
+                }
+            }
+
+            // Open nodes
+            int count = in.readInt();
+            List<int[]> openSequences = new ArrayList<>(count);
+            int[] openLowerBounds = new int[count];
+            int[] previous = new int[0];
+            for (int i = 0; i < count; i++) {
+                openLowerBounds[i] = in.readInt();
+                int prefix = readSmall(in, wide);
+                int suffix = readSmall(in, wide);
+                if (prefix > previous.length || prefix + suffix > numberOfJobs) {
+                    throw new IOException("Corrupted checkpoint " + file);
+                }
+                int[] sequence = new int[prefix + suffix];
+                System.arraycopy(previous, 0, sequence, 0, prefix);
+                for (int k = prefix; k < sequence.length; k++) {
+                    sequence[k] = readSmall(in, wide);
+                }
+                openSequences.add(sequence);
+                previous = sequence;
+            }
+            return new Checkpoint(instanceName, fingerprint, numberOfJobs, incumbent, countExpandedNodes,
+                    countPruned, countFoundPreemptive, elapsedTime, openSequences, openLowerBounds);
+        }
+    }
+
+    /**
+     * Write a job id or a length
+     */
+    private static void writeSmall(DataOutputStream out, int value, boolean wide) throws IOException {
+        if (wide) {
+            out.writeShort(value);
+        } else {
+            out.writeByte(value);
+        }
+    }
+
+    /**
+     * Read a job id or a length
+     */
+    private static int readSmall(DataInputStream in, boolean wide) throws IOException {
+        return wide ? in.readUnsignedShort() : in.readUnsignedByte();
+    }
+
+    /* Getters */
+
+    int[] getIncumbent() {
+        return incumbent;
+    }
+
+    long getCountExpandedNodes() {
+        return countExpandedNodes;
+    }
+
+    long getCountPruned() {
+        return countPruned;
+    }
+
+    long getCountFoundPreemptive() {
+        return countFoundPreemptive;
+    }
+
+    long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    List<int[]> getOpenSequences() {
+        return openSequences;
+    }
+
+    int[] getOpenLowerBounds() {
+        return openLowerBounds;
+    }
+}
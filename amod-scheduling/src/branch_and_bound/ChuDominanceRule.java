@@ -0,0 +1,45 @@
+package branch_and_bound;
+
+/**
+ * Chu's dominance for the problem 1|r_j|sum C_j:
+ * let t be the makespan of the partial solution and i, j two jobs not scheduled
+ * If processingTime of i >= processingTime of j and
+ * max{ t, releaseTime of i } + processingTime of i <= max{ t, releaseTime of j } + processingTime of j,
+ * then appending i dominates appending j: exchanging i and j in any completion
+ * of the partial solution followed by j does not increase any completion time
+ * of the other jobs nor the sum of the completion times of i and j
+ * In case of a tie, only the job with the greater id is pruned
+ */
+class ChuDominanceRule extends DominanceRule {
+
+    @Override
+    String getName() {
+        return "Chu";
+    }
+
+    @Override
+    protected boolean dominates(SolveContext context, TreeNode node, int jobId, SrptKernel kernel) {
+        int currentInstant = node.getMakespan();
+        int processingTimeJ = context.getProcessingTime(jobId);
+        int startInstantJ = startInstant(context, node, jobId);
+        int completionTimeJ = startInstantJ + processingTimeJ;
+
+        // Only the jobs released before the start of j can be completed before its completion
+        for (int jobId2 : context.getJobIdsSortedByReleaseTime()) {
+            int releaseTimeI = context.getReleaseTime(jobId2);
+            if (releaseTimeI > startInstantJ) {
+                break;
+            }
+            int processingTimeI = context.getProcessingTime(jobId2);
+            if (jobId2 == jobId || kernel.isScheduled(jobId2) || processingTimeI < processingTimeJ) {
+                continue;
+            }
+            int completionTimeI = Math.max(currentInstant, releaseTimeI) + processingTimeI;
+            if (completionTimeI < completionTimeJ || (completionTimeI == completionTimeJ &&
+                    (processingTimeI > processingTimeJ || jobId2 < jobId))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -8,4 +8,50 @@ final class Constants {
      * Infinity
      */
     static final int INFINITY = Integer.MAX_VALUE;
+
+    /**
+     * A worker splits off a subtree for the idle workers
+     * only if its deque holds less than this number of subtrees
+     */
+    static final int SPLIT_THRESHOLD = 2;
+
+    /**
+     * The number of nodes a worker expands between two checks
+     * of the conditions shared with the other workers
+     */
+    static final int CHECK_INTERVAL = 64;
+
+    /**
+     * The minimum number of milliseconds a search runs on a shared pool
+     * before it gives its workers back to the other searches
+     */
+    static final int YIELD_TIME_SLICE = 100;
+
+    /**
+     * The maximum number of free nodes kept by the node pool of a thread
+     */
+    static final int NODE_POOL_CAPACITY = 4096;
+
+    /**
+     * The maximum number of pairs (makespan, sum of the completion times)
+     * remembered by the state table for each set of scheduled jobs
+     */
+    static final int PARETO_SET_CAPACITY = 8;
+
+    /**
+     * The maximum number of consecutive jobs moved together by the local search
+     */
+    static final int LOCAL_SEARCH_MAX_BLOCK_LENGTH = 3;
+
+    /**
+     * The number of upcoming instances of a batch among which
+     * the next instance to be solved is chosen
+     */
+    static final int BATCH_ORDER_WINDOW = 64;
+
+    /**
+     * The maximum number of seconds the shutdown of the process waits
+     * for the checkpoint of the running search
+     */
+    static final int CHECKPOINT_SHUTDOWN_TIMEOUT = 30;
 }
@@ -0,0 +1,213 @@
+package branch_and_bound;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * This class reads the instances of a CSV file
+ * Each row describes a job: "instance,job,processing_time,release_time"
+ * The consecutive rows with the same instance name form an instance,
+ * whose number of jobs is the number of rows
+ * and whose jobs have the ids 1, ..., n in any order
+ * Two more fields "processing_time_min,processing_time_max", written by InstanceExporter,
+ * give the minimum and the maximum processing time declared by the instance;
+ * without them, they are computed from the jobs
+ * An optional header row and the empty rows are skipped
+ */
+public class CsvInstanceReader implements InstanceSource {
+    /**
+     * The reader of the file
+     */
+    private final BufferedReader reader;
+
+    /**
+     * The fields of the last row read and not yet parsed
+     */
+    private String[] pendingRow;
+
+    /**
+     * The number of the last line read
+     */
+    private int lineNumber = 0;
+
+    /**
+     * Open a CSV file
+     * @param filename the name of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public CsvInstanceReader(String filename) throws IOException {
+        reader = Files.newBufferedReader(Paths.get(filename), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get an iterator over the instances, in the order of the file
+     * The iterator can be used only once
+     * @return the iterator
+     */
+    @Override
+    public Iterator<Instance> iterator() {
+        return new Iterator<Instance>() {
+            /**
+             * The next instance, null if it has not been read yet
+             */
+            private Instance next;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (next == null && (pendingRow != null || (pendingRow = readRow()) != null)) {
+                        next = readInstance();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return next != null;
+            }
+
+            @Override
+            public Instance next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Instance instance = next;
+                next = null;
+                return instance;
+            }
+        };
+    }
+
+    /**
+     * Close the file
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Read the rows of the instance of the pending row
+     * @return the instance
+     * @throws IOException if the file cannot be read or the ids of the jobs are not valid
+     */
+    private Instance readInstance() throws IOException {
+        String name = pendingRow[0];
+        boolean declared = pendingRow.length == 6;
+        // Id, processing time, release time, line and declared processing times of each job
+        List<int[]> jobs = new ArrayList<>();
+        int processingTimeMin = Integer.MAX_VALUE;
+        int processingTimeMax = 0;
+        do {
+            if (pendingRow.length != (declared ? 6 : 4)) {
+                throw new IOException("Line " + lineNumber + ": " + (declared ? 6 : 4) + " fields expected");
+            }
+            int[] job = new int[6];
+            for (int field = 0; field < 3; field++) {
+                job[field] = parseField(pendingRow[field + 1]);
+            }
+            job[3] = lineNumber;
+            if (declared) {
+                job[4] = parseField(pendingRow[4]);
+                job[5] = parseField(pendingRow[5]);
+            }
+            processingTimeMin = Math.min(processingTimeMin, job[1]);
+            processingTimeMax = Math.max(processingTimeMax, job[1]);
+            jobs.add(job);
+        } while ((pendingRow = readRow()) != null && pendingRow[0].equals(name));
+
+        if (declared) {
+            // The values declared by the first row of the instance
+            processingTimeMin = jobs.get(0)[4];
+            processingTimeMax = jobs.get(0)[5];
+        }
+
+        // Build the instance
+        int numberOfJobs = jobs.size();
+        Instance instance = new Instance();
+        instance.setName(name);
+        instance.setNumberOfJobs(numberOfJobs);
+        instance.setProcessingTimeMin(processingTimeMin);
+        instance.setProcessingTimeMax(processingTimeMax);
+        boolean[] read = new boolean[numberOfJobs];
+        for (int[] job : jobs) {
+            int jobId = job[0];
+            if (jobId < 1 || jobId > numberOfJobs) {
+                throw new IOException("Line " + job[3] + ": job " + jobId + " of instance " + name +
+                        " is not between 1 and " + numberOfJobs);
+            }
+            if (read[jobId - 1]) {
+                throw new IOException("Line " + job[3] + ": job " + jobId + " of instance " + name +
+                        " is repeated");
+            }
+            read[jobId - 1] = true;
+            instance.addJob(new Job(jobId, job[1], job[2]));
+        }
+        return instance;
+    }
+
+    /**
+     * Read the next row with a job, skipping the empty rows and the header
+     * @return the fields of the row, or null at the end of the file
+     * @throws IOException if the file cannot be read or the row is not valid
+     */
+    private String[] readRow() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split(",", -1);
+            if (fields.length != 4 && fields.length != 6) {
+                throw new IOException("Line " + lineNumber + ": 4 or 6 fields expected");
+            }
+            for (int field = 0; field < fields.length; field++) {
+                fields[field] = fields[field].trim();
+            }
+            if (lineNumber == 1 && !isNumber(fields[1])) {
+                // Header
+                continue;
+            }
+            return fields;
+        }
+        return null;
+    }
+
+    /**
+     * Parse an integer field
+     * @param field the field
+     * @return the value
+     * @throws IOException if the field is not an integer
+     */
+    private int parseField(String field) throws IOException {
+        if (!isNumber(field)) {
+            throw new IOException("Line " + lineNumber + ": invalid number " + field);
+        }
+        return Integer.parseInt(field);
+    }
+
+    /**
+     * Check if a field is a non-negative integer
+     * @param field the field
+     * @return true if the field is a number
+     */
+    private static boolean isNumber(String field) {
+        if (field.isEmpty() || field.length() > 9) {
+            return false;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            if (!Character.isDigit(field.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
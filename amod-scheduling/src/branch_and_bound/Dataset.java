@@ -1,13 +1,12 @@
 package branch_and_bound;
 
-/* Apache POI dependencies */
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-
 /* Java dependencies */
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * This class represents a dataset, which is a collection of instances
@@ -35,115 +34,105 @@ public class Dataset {
      * for a detailed explanation of instance file format
      */
     public void buildDatasetFromXlsxFile(String filename) {
-        FileInputStream excelFile;
-        Workbook workbook;
+        List<Instance> instanceList = new ArrayList<>();
         try {
-            // Get excel file containing dataset
-            excelFile = new FileInputStream(new File(filename));
-            workbook = new XSSFWorkbook(excelFile);
-
-            // Get number of sheets
-            this.numberOfInstances = workbook.getNumberOfSheets();
-            this.instances = new Instance[this.numberOfInstances];
+            for (Instance instance : streamXlsxFile(filename)) {
+                instanceList.add(instance);
+            }
+        } catch (UncheckedIOException e) {
+            e.printStackTrace();
+        }
+        this.instances = instanceList.toArray(new Instance[0]);
+        this.numberOfInstances = instances.length;
+    }
 
-            // Parse xlsx file and build dataset
-            for (int i = 0; i < numberOfInstances; i++) {
-                // Create a new instance and add it to the dataset
-                Instance instance = null;
-                // Get the sheet associated to the instance
-                Sheet sheet = workbook.getSheetAt(i);
-                String name = sheet.getSheetName();
+    /**
+     * Read the instances of a xlsx file one at a time:
+     * each sheet is parsed only when its instance is requested,
+     * so the memory needed does not grow with the size of the workbook
+     * The file is closed when the last instance has been read
+     *
+     * @param filename the name of the xlsx file
+     * @return the instances, in the order of the sheets
+     */
+    public Iterable<Instance> streamXlsxFile(String filename) {
+        return streamFile(filename, 0);
+    }
 
-                ParserState currentState = ParserState.NONE;
-                // Iterate on the rows of the sheet
-                for (Row currentRow : sheet) {
-                    // Create a new job and fill its fields
-                    Job job = new Job();
+    /**
+     * Read the instances of a file one at a time
+     * The format is given by the file (see InstanceSource.open())
+     * If prefetch is positive, the instances are parsed by a loader thread
+     * while the previous ones are being used, and at most prefetch instances
+     * are kept ahead of the consumer
+     * The file is closed when the last instance has been read
+     * Parsing does not print anything: use InstanceExporter to write the instances
+     *
+     * @param filename the name of the file
+     * @param prefetch the number of instances parsed ahead, 0 to parse them on demand
+     * @return the instances, in the order of the file
+     */
+    public Iterable<Instance> streamFile(final String filename, final int prefetch) {
+        return new Iterable<Instance>() {
+            @Override
+            public Iterator<Instance> iterator() {
+                return prefetch > 0 ? new InstanceLoader(read(filename), prefetch) : read(filename);
+            }
+        };
+    }
 
-                    // Iterate on each cell of the selected row
-                    for (Cell currentCell : currentRow) {
-                        if (currentCell.getCellType() == CellType.STRING) {
-                            switch (currentCell.getStringCellValue()) {
-                                case "n =":
-                                    currentState = ParserState.NUMBER_OF_JOBS;
-                                    break;
-                                case "pmin":
-                                    currentState = ParserState.PROCESSING_TIME_MIN;
-                                    break;
-                                case "pmax":
-                                    currentState = ParserState.PROCESSING_TIME_MAX;
-                                    break;
-                                case "job":
-                                    currentState = ParserState.PROCESSING_TIME_TEXT;
-                                    break;
-                                case "processing t":
-                                    currentState = ParserState.RELEASE_TIME_TEXT;
-                                    break;
-                                case "release t":
-                                    currentState = ParserState.JOB_VALUE;
-                                    break;
-                                default:
-                                    currentState = ParserState.NONE;
-                                    break;
-                            }
-                        } else if (currentCell.getCellType() == CellType.NUMERIC) {
-                            switch (currentState) {
-                                case NUMBER_OF_JOBS:
-                                    instance = new Instance();
-                                    instance.setName(name);
-                                    this.instances[i] = instance;
-                                    instance.setNumberOfJobs((int) currentCell.getNumericCellValue());
-                                    break;
-                                case PROCESSING_TIME_MIN:
-                                    instance.setProcessingTimeMin((int) currentCell.getNumericCellValue());
-                                    break;
-                                case PROCESSING_TIME_MAX:
-                                    instance.setProcessingTimeMax((int) currentCell.getNumericCellValue());
-                                    break;
-                                case PROCESSING_TIME_TEXT:
-                                    System.out.println("Inconsistent file");
-                                    break;
-                                case RELEASE_TIME_TEXT:
-                                    System.out.println("Inconsistent file");
-                                    break;
-                                case JOB_VALUE:
-                                    job = new Job();
-                                    job.setId((int) currentCell.getNumericCellValue());
-                                    currentState = ParserState.PROCESSING_TIME_VALUE;
-                                    break;
-                                case PROCESSING_TIME_VALUE:
-                                    job.setProcessingTime((int) currentCell.getNumericCellValue());
-                                    currentState = ParserState.RELEASE_TIME_VALUE;
-                                    break;
-                                case RELEASE_TIME_VALUE:
-                                    job.setReleaseTime((int) currentCell.getNumericCellValue());
-                                    currentState = ParserState.JOB_VALUE;
-                                    instance.addJob(job);
-                                    break;
-                                default:
-                                    break;
-                            }
-                        }
+    /**
+     * Open a file and get an iterator over its instances
+     * The file is closed when the last instance has been read
+     * @param filename the name of the file
+     * @return the iterator
+     */
+    private static Iterator<Instance> read(String filename) {
+        final InstanceSource reader;
+        try {
+            reader = InstanceSource.open(filename);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final Iterator<Instance> source = reader.iterator();
+        return new Iterator<Instance>() {
+            /**
+             * The next instance, null if it has not been read yet
+             */
+            private Instance next;
+
+            @Override
+            public boolean hasNext() {
+                // Skip the sheets which do not contain an instance
+                while (next == null && source.hasNext()) {
+                    long start = System.nanoTime();
+                    next = source.next();
+                    if (next != null) {
+                        // Sort the jobs here, possibly in the loader thread
+                        next.sortJobs();
+                        next.setParseTime(System.nanoTime() - start);
                     }
-
-                    // Consistency check
-                    assert(instance.getNumberOfJobs() == instance.getJobs().length);
                 }
+                if (next == null) {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return next != null;
+            }
 
-                // Print on console
-                instance.printInstance();
-
-                // Print on a file
-                String outFilename = "dataset\\instances-" + instance.getName() + ".txt";
-                instance.printInstance(outFilename);
-
-                // Consistency check
-                assert(this.numberOfInstances == instances.length);
-
+            @Override
+            public Instance next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Instance instance = next;
+                next = null;
+                return instance;
             }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        };
     }
 
     /**
@@ -0,0 +1,51 @@
+package branch_and_bound;
+
+/**
+ * This class represents a dispatching rule:
+ * each time the machine becomes free, the rule selects
+ * the next job among the jobs not yet scheduled
+ * and the job starts as soon as it is released
+ */
+abstract class DispatchingHeuristic extends Heuristic {
+
+    /**
+     * Select the next job to be scheduled
+     *
+     * @param instance the instance to be solved
+     * @param scheduled the flags of the scheduled jobs (index jobId-1)
+     * @param currentTime the instant the machine becomes free
+     * @param remainingJobs the number of jobs not yet scheduled
+     * @return the id of the selected job
+     */
+    abstract int select(Instance instance, boolean[] scheduled, int currentTime, int remainingJobs);
+
+    @Override
+    Solution schedule(Instance instance) {
+        // The current instant
+        int currentTime = 0;
+
+        Solution solution = new Solution(instance);
+        boolean[] scheduled = new boolean[instance.getNumberOfJobs()];
+        for (int remainingJobs = instance.getNumberOfJobs(); remainingJobs > 0; remainingJobs--) {
+            // Select the next job
+            int jobId = select(instance, scheduled, currentTime, remainingJobs);
+            scheduled[jobId-1] = true;
+
+            // Schedule the job and update the current instant
+            currentTime = scheduleJob(currentTime, instance, jobId, solution);
+        }
+        // Return the result
+        return solution;
+    }
+
+    /**
+     * Get the earliest completion time of a job
+     * @param instance the instance to be solved
+     * @param jobId the id of the job
+     * @param currentTime the instant the machine becomes free
+     * @return the completion time if the job is scheduled next
+     */
+    static int earliestCompletionTime(Instance instance, int jobId, int currentTime) {
+        return Math.max(currentTime, instance.getReleaseTime(jobId)) + instance.getProcessingTime(jobId);
+    }
+}
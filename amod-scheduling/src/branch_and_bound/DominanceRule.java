@@ -0,0 +1,73 @@
+package branch_and_bound;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class represents a dominance rule:
+ * a condition which proves that the subtree rooted in a child of a node
+ * does not contain solutions better than the ones of another subtree,
+ * so that it can be pruned without computing its lower bound
+ *
+ * The rules are shared by all the workers and must not keep any state
+ * apart from the counter of the pruned nodes
+ */
+abstract class DominanceRule {
+    /**
+     * The number of nodes pruned by the rule
+     */
+    private final LongAdder countPruned = new LongAdder();
+
+    /**
+     * Get the name of the rule
+     * @return the name
+     */
+    abstract String getName();
+
+    /**
+     * Check if the child obtained appending the job to the partial solution of the node is dominated
+     *
+     * @param context the context of the run
+     * @param node the node being expanded
+     * @param jobId the id of the job appended to the partial solution of the node
+     * @param kernel the kernel of the current thread, loaded with the scheduled jobs of the node
+     * @return true if the child is dominated
+     */
+    protected abstract boolean dominates(SolveContext context, TreeNode node, int jobId, SrptKernel kernel);
+
+    /**
+     * Check if the child obtained appending the job to the partial solution of the node
+     * has to be pruned, and count it
+     *
+     * @param context the context of the run
+     * @param node the node being expanded
+     * @param jobId the id of the job appended to the partial solution of the node
+     * @param kernel the kernel of the current thread, loaded with the scheduled jobs of the node
+     * @return true if the child has to be pruned
+     */
+    final boolean isDominated(SolveContext context, TreeNode node, int jobId, SrptKernel kernel) {
+        if (dominates(context, node, jobId, kernel)) {
+            countPruned.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of nodes pruned by the rule
+     * @return the number of pruned nodes
+     */
+    long getCountPruned() {
+        return countPruned.sum();
+    }
+
+    /**
+     * Get the start instant of the job appended to the partial solution of the node
+     * @param context the context of the run
+     * @param node the node
+     * @param jobId the id of the job
+     * @return the start instant
+     */
+    static int startInstant(SolveContext context, TreeNode node, int jobId) {
+        return Math.max(node.getMakespan(), context.getReleaseTime(jobId));
+    }
+}
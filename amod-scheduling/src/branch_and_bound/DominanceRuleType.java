@@ -0,0 +1,54 @@
+package branch_and_bound;
+
+/**
+ * Enumeration for the dominance rules which can be enabled
+ */
+public enum DominanceRuleType {
+    /**
+     * A job not scheduled can be completed before the release of the new job
+     */
+    RELEASE_TIME,
+
+    /**
+     * Chu's dominance between two jobs not scheduled
+     */
+    CHU,
+
+    /**
+     * The new job fits in an idle interval of the partial solution
+     */
+    LEFT_SHIFT,
+
+    /**
+     * Exchanging the new job with the last job of the partial solution gives a better sequence
+     */
+    INTERCHANGE;
+
+    /**
+     * Create the rule
+     * @return the dominance rule
+     */
+    DominanceRule create() {
+        switch (this) {
+            case RELEASE_TIME:
+                return new ReleaseTimeDominanceRule();
+            case CHU:
+                return new ChuDominanceRule();
+            case LEFT_SHIFT:
+                return new LeftShiftDominanceRule();
+            case INTERCHANGE:
+                return new InterchangeDominanceRule();
+            default:
+                throw new IllegalStateException("Unknown dominance rule " + this);
+        }
+    }
+
+    /**
+     * Get the rule corresponding to a name (e.g. "left-shift")
+     * @param name the name of the rule
+     * @return the rule
+     */
+    public static DominanceRuleType fromString(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
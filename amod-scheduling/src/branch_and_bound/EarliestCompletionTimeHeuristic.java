@@ -0,0 +1,45 @@
+package branch_and_bound;
+
+/**
+ * Earliest completion time (ECT) rule:
+ * schedule next the job which completes first,
+ * ties broken by the lowest processing time
+ */
+class EarliestCompletionTimeHeuristic extends DispatchingHeuristic {
+
+    @Override
+    String getName() {
+        return "earliest completion time";
+    }
+
+    @Override
+    int select(Instance instance, boolean[] scheduled, int currentTime, int remainingJobs) {
+        return selectEarliestCompletionTime(instance, scheduled, currentTime);
+    }
+
+    /**
+     * Select the job which completes first, ties broken by the lowest processing time
+     *
+     * @param instance the instance to be solved
+     * @param scheduled the flags of the scheduled jobs (index jobId-1)
+     * @param currentTime the instant the machine becomes free
+     * @return the id of the selected job
+     */
+    static int selectEarliestCompletionTime(Instance instance, boolean[] scheduled, int currentTime) {
+        int selectedJobId = -1;
+        int selectedCompletionTime = 0;
+        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+            if (scheduled[jobId-1]) {
+                continue;
+            }
+            int completionTime = earliestCompletionTime(instance, jobId, currentTime);
+            if (selectedJobId == -1 || completionTime < selectedCompletionTime ||
+                    (completionTime == selectedCompletionTime &&
+                            instance.getProcessingTime(jobId) < instance.getProcessingTime(selectedJobId))) {
+                selectedJobId = jobId;
+                selectedCompletionTime = completionTime;
+            }
+        }
+        return selectedJobId;
+    }
+}
@@ -0,0 +1,192 @@
+package branch_and_bound;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class represents the global frontier of the enumeration tree,
+ * i.e. the open nodes shared by all the workers
+ * The nodes are polled starting from the most promising one
+ */
+class Frontier {
+    /**
+     * The open nodes
+     */
+    private final PriorityQueue<TreeNode> nodes;
+
+    /**
+     * The number of open nodes
+     * It can be read without holding the lock
+     */
+    private volatile int size;
+
+    /**
+     * The largest number of open nodes
+     */
+    private int peakSize;
+
+    /**
+     * The number of workers which are exploring a node taken from the frontier
+     * These workers could add new nodes to the frontier
+     */
+    private int busyWorkers;
+
+    /**
+     * True if the frontier has been closed
+     */
+    private boolean closed;
+
+    /**
+     * The blocker used by the workers waiting for new nodes
+     */
+    private final Waiter waiter = new Waiter();
+
+    /**
+     * Constructor
+     * @param comparator the order of the nodes
+     */
+    Frontier(Comparator<TreeNode> comparator) {
+        this.nodes = new PriorityQueue<>(comparator);
+        this.size = 0;
+        this.busyWorkers = 0;
+        this.closed = false;
+    }
+
+    /**
+     * Add a node to the frontier
+     * @param node the node
+     */
+    synchronized void add(TreeNode node) {
+        nodes.add(node);
+        size = nodes.size();
+        peakSize = Math.max(peakSize, size);
+        notify();
+    }
+
+    /**
+     * Add some nodes to the frontier
+     * @param newNodes the nodes
+     */
+    synchronized void addAll(Collection<TreeNode> newNodes) {
+        if (newNodes.isEmpty()) {
+            return;
+        }
+        nodes.addAll(newNodes);
+        size = nodes.size();
+        peakSize = Math.max(peakSize, size);
+        notifyAll();
+    }
+
+    /**
+     * Take the most promising node from the frontier
+     * If the frontier is empty, wait until a busy worker adds new nodes
+     * The wait is managed by the pool of the caller, which can activate
+     * another worker in the meantime for the other searches sharing the pool
+     * The caller must call release() when the node has been explored
+     * @return the node, or null if the exploration is finished
+     */
+    TreeNode take() {
+        while (true) {
+            synchronized (this) {
+                if (!mustWait()) {
+                    if (nodes.isEmpty() || closed) {
+                        // Nothing left to explore
+                        notifyAll();
+                        return null;
+                    }
+                    busyWorkers++;
+                    TreeNode node = nodes.poll();
+                    size = nodes.size();
+                    return node;
+                }
+            }
+            try {
+                ForkJoinPool.managedBlock(waiter);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Check if a worker asking for a node has to wait:
+     * the frontier is empty, but the busy workers could add new nodes
+     * The caller must hold the lock
+     * @return true if the worker has to wait
+     */
+    private boolean mustWait() {
+        return nodes.isEmpty() && busyWorkers > 0 && !closed;
+    }
+
+    /**
+     * Notify that a node taken from the frontier has been explored
+     */
+    synchronized void release() {
+        busyWorkers--;
+        if (busyWorkers == 0 && nodes.isEmpty()) {
+            // Wake up the waiting workers: the exploration is finished
+            notifyAll();
+        }
+    }
+
+    /**
+     * Close the frontier: the waiting workers return immediately
+     */
+    synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    /**
+     * Move all the open nodes to a collection
+     * @param target the collection
+     */
+    synchronized void drainTo(Collection<TreeNode> target) {
+        target.addAll(nodes);
+        nodes.clear();
+        size = 0;
+    }
+
+    /**
+     * Get the largest number of open nodes
+     * @return the peak size of the frontier
+     */
+    synchronized int getPeakSize() {
+        return peakSize;
+    }
+
+    /**
+     * Get the number of open nodes
+     * @return the size of the frontier
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * The blocker of a worker waiting for new nodes
+     * It has no state of its own, so all the workers share it
+     */
+    private final class Waiter implements ForkJoinPool.ManagedBlocker {
+
+        @Override
+        public boolean block() throws InterruptedException {
+            synchronized (Frontier.this) {
+                while (mustWait()) {
+                    Frontier.this.wait();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            synchronized (Frontier.this) {
+                return !mustWait();
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package branch_and_bound;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents a constructive heuristic:
+ * it builds a non-preemptive schedule of all the jobs
+ * whose sum of completion times is an upper bound for the instance
+ *
+ * The heuristics of the portfolio are run in parallel before the search
+ * and the best schedule becomes the first incumbent
+ * A new heuristic is added to the portfolio by extending this class
+ * and adding it to portfolio()
+ */
+abstract class Heuristic {
+
+    /**
+     * Get the name of the heuristic
+     * @return the name
+     */
+    abstract String getName();
+
+    /**
+     * Build a schedule of all the jobs of the instance
+     * @param instance the instance to be solved
+     * @return the schedule
+     */
+    abstract Solution schedule(Instance instance);
+
+    /**
+     * Get the heuristics run before the search
+     * @return the heuristics, in order of preference in case of a tie
+     */
+    static List<Heuristic> portfolio() {
+        List<Heuristic> heuristics = new ArrayList<>();
+        heuristics.add(new LowerIndexFirstHeuristic());
+        heuristics.add(new LowerReleaseTimeFirstHeuristic());
+        heuristics.add(new LowerProcessingTimeFirstHeuristic());
+        heuristics.add(new LowerProcessingTimeLowerReleaseTimeFirstHeuristic());
+        heuristics.add(new EarliestCompletionTimeHeuristic());
+        heuristics.add(new AprtfHeuristic());
+        heuristics.add(new LookAheadHeuristic(0.5));
+        heuristics.add(new LookAheadHeuristic(1.0));
+        heuristics.add(new LookAheadHeuristic(2.0));
+        heuristics.add(new RandomRestartHeuristic(0, 100));
+        return heuristics;
+    }
+
+    /**
+     * Schedule a job as soon as it is released and the machine is free
+     * @param currentTime the completion time of the schedule
+     * @param instance the instance to be solved
+     * @param jobId the id of the job
+     * @param sol the schedule
+     * @return the new completion time of the schedule
+     */
+    static int scheduleJob(int currentTime, Instance instance, int jobId, Solution sol) {
+        // Get the release time and the processing time of the job
+        int releaseTime = instance.getReleaseTime(jobId);
+        int processingTime = instance.getProcessingTime(jobId);
+
+        // Compute the completion time for the job
+        int completionTime;
+        if (currentTime <= releaseTime) {
+            // The job has not yet been released at the current time
+            // will be scheduled at its release time
+            // and will be completed after processing time
+            completionTime = releaseTime + processingTime;
+            sol.processAndScheduleJob(jobId, releaseTime);
+        } else {
+            // The job has been released at the current time,
+            // will be scheduled at the current time
+            // and will be completed after processing time
+            completionTime = currentTime + processingTime;
+            sol.processAndScheduleJob(jobId, currentTime);
+        }
+        return completionTime;
+    }
+}
@@ -0,0 +1,46 @@
+package branch_and_bound;
+
+/**
+ * This class represents the incumbent of the B&B algorithm,
+ * i.e. the best known solution together with its upper bound
+ * The object is immutable: the upper bound and the solution
+ * are always published together by replacing the whole object
+ */
+final class Incumbent {
+    /**
+     * The best known upper bound
+     */
+    private final int upperBound;
+
+    /**
+     * The best known solution
+     * It is null if no solution has been found yet
+     */
+    private final Solution solution;
+
+    /**
+     * Constructor
+     * @param upperBound the upper bound
+     * @param solution the solution which has the upper bound as sum of completion times
+     */
+    Incumbent(int upperBound, Solution solution) {
+        this.upperBound = upperBound;
+        this.solution = solution;
+    }
+
+    /**
+     * Get the best known upper bound
+     * @return the upper bound
+     */
+    int getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Get the best known solution
+     * @return the solution
+     */
+    Solution getSolution() {
+        return solution;
+    }
+}
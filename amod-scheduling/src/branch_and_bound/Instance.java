@@ -1,12 +1,6 @@
 package branch_and_bound;
 
-import dnl.utils.text.table.TextTable;
-
-import java.io.FileDescriptor;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.PrintStream;
-import java.util.*;
+import java.util.Arrays;
 
 import static branch_and_bound.Constants.INFINITY;
 
@@ -37,7 +31,26 @@ public class Instance {
      */
     private Job[] jobs;
 
-    //private TreeSet<Integer> jobsOrderedByReleaseTime;
+    /**
+     * The release time of each job (index jobId-1)
+     * The solver reads the times from the flat arrays, not from the jobs
+     */
+    private int[] releaseTimes;
+
+    /**
+     * The processing time of each job (index jobId-1)
+     */
+    private int[] processingTimes;
+
+    /**
+     * The orders of the jobs, computed once when the instance is complete
+     */
+    private volatile JobOrders orders;
+
+    /**
+     * The time spent reading the instance, in nanoseconds
+     */
+    private long parseTime;
 
     /**
      * Default constructor
@@ -46,32 +59,61 @@ public class Instance {
         this.numberOfJobs = 0;
         this.processingTimeMin = 0;
         this.processingTimeMax = INFINITY;
-        //this.jobsOrderedByReleaseTime = new TreeSet<>(new MinReleaseTimeFirst());
     }
 
     /**
-     * Compare two jobs considering the release time
+     * The ids of the jobs sorted by release time, by processing time
+     * and by release time plus processing time
+     * Ties are broken by id
      */
-    class MinReleaseTimeFirst implements Comparator<Integer> {
+    private static final class JobOrders {
 
-        @Override
-        public int compare(Integer j1, Integer j2) {
-            return Integer.compare(getJob(j1).getReleaseTime(), getJob(j2).getReleaseTime());
-        }
-    }
+        private final int[] byReleaseTime;
 
-    /**
-     * Compare two jobs considering the release time
-     */
-    class MinProcessingTimeFirst implements Comparator<Integer> {
+        private final int[] byProcessingTime;
 
-        @Override
-        public int compare(Integer j1, Integer j2) {
-            return Integer.compare(getJob(j1).getProcessingTime(), getJob(j2).getProcessingTime());
+        private final int[] byReleasePlusProcessingTime;
+
+        private JobOrders(int[] releaseTimes, int[] processingTimes) {
+            int numberOfJobs = releaseTimes.length;
+            long[] releaseKeys = new long[numberOfJobs];
+            long[] processingKeys = new long[numberOfJobs];
+            long[] sumKeys = new long[numberOfJobs];
+            for (int jobId = 1; jobId <= numberOfJobs; jobId++) {
+                releaseKeys[jobId-1] = sortKey(releaseTimes[jobId-1], jobId);
+                processingKeys[jobId-1] = sortKey(processingTimes[jobId-1], jobId);
+                sumKeys[jobId-1] = sortKey((long) releaseTimes[jobId-1] + processingTimes[jobId-1], jobId);
+            }
+            byReleaseTime = sortedJobIds(releaseKeys);
+            byProcessingTime = sortedJobIds(processingKeys);
+            byReleasePlusProcessingTime = sortedJobIds(sumKeys);
         }
-    }
 
+        /**
+         * Pack a value and a job id in a key which sorts by value, then by id
+         * @param value the value, not negative
+         * @param jobId the id of the job
+         * @return the key
+         */
+        private static long sortKey(long value, int jobId) {
+            return (value << 32) | jobId;
+        }
 
+        /**
+         * Sort the keys and extract the ids of the jobs
+         * Sorting primitive keys does not box the ids
+         * @param keys the keys of the jobs
+         * @return the ids of the jobs, in the order of the keys
+         */
+        private static int[] sortedJobIds(long[] keys) {
+            Arrays.sort(keys);
+            int[] jobIds = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                jobIds[i] = (int) keys[i];
+            }
+            return jobIds;
+        }
+    }
 
     /* Getters and setters */
 
@@ -110,6 +152,9 @@ public class Instance {
     void setNumberOfJobs(int numberOfJobs) {
         this.numberOfJobs = numberOfJobs;
         this.jobs = new Job[numberOfJobs];
+        this.releaseTimes = new int[numberOfJobs];
+        this.processingTimes = new int[numberOfJobs];
+        this.orders = null;
     }
 
     /**
@@ -140,29 +185,92 @@ public class Instance {
     }
 
     /**
-     * Sort jobs by release time
+     * Get the release time of a job
+     * @param jobId the id of the job
+     * @return the release time
+     */
+    public int getReleaseTime(int jobId) {
+        return releaseTimes[jobId-1];
+    }
+
+    /**
+     * Get the processing time of a job
+     * @param jobId the id of the job
+     * @return the processing time
+     */
+    public int getProcessingTime(int jobId) {
+        return processingTimes[jobId-1];
+    }
+
+    /**
+     * Get the release times of the jobs (index jobId-1)
+     * The array must not be modified
+     * @return the release times
+     */
+    int[] getReleaseTimes() {
+        return releaseTimes;
+    }
+
+    /**
+     * Get the processing times of the jobs (index jobId-1)
+     * The array must not be modified
+     * @return the processing times
+     */
+    int[] getProcessingTimes() {
+        return processingTimes;
+    }
+
+    /**
+     * Get the ids of the jobs sorted by release time, ties broken by id
+     * The array must not be modified
      *
-     * @return the jobs
+     * @return the ids of the jobs
      */
-    PriorityQueue<Integer> getJobsSortedByReleaseTime() {
-        PriorityQueue<Integer> sortedJobs = new PriorityQueue<>(numberOfJobs, new MinReleaseTimeFirst());
-        for (int jobId = 1; jobId <= numberOfJobs; jobId++) {
-            sortedJobs.add(jobId);
-        }
-        return sortedJobs;
+    int[] getJobIdsSortedByReleaseTime() {
+        return getOrders().byReleaseTime;
+    }
+
+    /**
+     * Get the ids of the jobs sorted by processing time, ties broken by id
+     * The array must not be modified
+     *
+     * @return the ids of the jobs
+     */
+    int[] getJobIdsSortedByProcessingTime() {
+        return getOrders().byProcessingTime;
     }
 
     /**
-     * Sort jobs by processing time
+     * Get the ids of the jobs sorted by release time plus processing time
+     * (i.e. by earliest completion time), ties broken by id
+     * The array must not be modified
      *
-     * @return the jobs hasmap
+     * @return the ids of the jobs
+     */
+    int[] getJobIdsSortedByReleasePlusProcessingTime() {
+        return getOrders().byReleasePlusProcessingTime;
+    }
+
+    /**
+     * Sort the jobs in all the orders
+     * The dataset calls it once an instance has been read, so the orders
+     * are computed while loading and not by the solver
+     */
+    void sortJobs() {
+        getOrders();
+    }
+
+    /**
+     * Get the orders of the jobs, computing them the first time
+     * @return the orders
      */
-    PriorityQueue<Integer> getJobsSortedByProcessingTime() {
-        PriorityQueue<Integer> sortedJobs = new PriorityQueue<>(numberOfJobs, new MinProcessingTimeFirst());
-        for (int jobId = 1; jobId <= numberOfJobs; jobId++) {
-            sortedJobs.add(jobId);
+    private JobOrders getOrders() {
+        JobOrders jobOrders = orders;
+        if (jobOrders == null) {
+            jobOrders = new JobOrders(releaseTimes, processingTimes);
+            orders = jobOrders;
         }
-        return sortedJobs;
+        return jobOrders;
     }
 
     /**
@@ -179,7 +287,10 @@ public class Instance {
      */
     void addJob(Job job) {
         this.jobs[job.getId()-1] = job;
-        //this.jobsOrderedByReleaseTime.add(job.getId());
+        this.releaseTimes[job.getId()-1] = job.getReleaseTime();
+        this.processingTimes[job.getId()-1] = job.getProcessingTime();
+        // The jobs have changed, the orders have to be computed again
+        this.orders = null;
     }
 
     /**
@@ -191,75 +302,26 @@ public class Instance {
     }
 
     /**
-     * Setter for the name of the instance
-     * @param name the name of the instance
+     * Get the time spent reading the instance
+     * @return the time in nanoseconds, 0 if it has not been measured
      */
-    void setName(String name) {
-        this.name = name;
+    public long getParseTime() {
+        return parseTime;
     }
 
     /**
-     * Print the instance on the console
+     * Set the time spent reading the instance
+     * @param parseTime the time in nanoseconds
      */
-    void printInstance() {
-        printInstance(null);
+    void setParseTime(long parseTime) {
+        this.parseTime = parseTime;
     }
 
     /**
-     * This method print an instance
-     * If outputFilename is not null, print on a file
+     * Setter for the name of the instance
+     * @param name the name of the instance
      */
-    void printInstance(String outputFilename) {
-
-        try {
-            // If outputFilename is not null, redirect output to file
-            if (outputFilename != null) {
-                PrintStream fileStream = new PrintStream(outputFilename);
-                System.setOut(fileStream);
-            }
-
-            // Print instance metadata
-            System.out.println(String.format("********* Instance %s *********", this.name));
-            System.out.println(String.format("Number of jobs: %d", this.numberOfJobs));
-            System.out.println(String.format("Min processing time: %d", this.processingTimeMin));
-            System.out.println(String.format("Max processing time: %d", this.processingTimeMax));
-            System.out.println();
-
-            // Build table
-
-            // Table header
-            String[] columnNames = {
-                    "#",
-                    "Processing time",
-                    "Release time"
-            };
-
-            // Fill table with instance data
-            Object[][] data = new Object[this.numberOfJobs][3];
-
-            for (int i = 0; i < this.jobs.length; i++) {
-                data[i][0] = this.jobs[i].getId();
-                data[i][1] = this.jobs[i].getProcessingTime();
-                data[i][2] = this.jobs[i].getReleaseTime();
-            }
-
-            // Print table
-            TextTable tt = new TextTable(columnNames, data);
-            tt.printTable();
-
-            System.out.println("************************************");
-            System.out.println("____________________________________");
-            System.out.println();
-            System.out.println();
-            System.out.println();
-
-            // Reset standard output
-            if (outputFilename != null) {
-                System.setOut(new PrintStream(new FileOutputStream(FileDescriptor.out)));
-            }
-
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-        }
+    void setName(String name) {
+        this.name = name;
     }
 }
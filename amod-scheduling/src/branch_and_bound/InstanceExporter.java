@@ -0,0 +1,308 @@
+package branch_and_bound;
+
+import dnl.utils.text.table.TextTable;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class writes instances in a text table, CSV or JSON format
+ * The instances are written only on demand, through the writer supplied by the caller
+ * or through a buffered writer per file: nothing is printed while the instances are parsed
+ * The text and CSV formats can be read back by TextInstanceReader and CsvInstanceReader
+ */
+public final class InstanceExporter {
+    /**
+     * The header of a CSV file
+     */
+    private static final String CSV_HEADER =
+            "instance,job,processing_time,release_time,processing_time_min,processing_time_max\n";
+
+    /**
+     * Enumeration for the formats of the exporter
+     */
+    public enum Format {
+        /**
+         * The text table written by the original dataset parser
+         */
+        TEXT("txt"),
+
+        /**
+         * A row "instance,job,processing_time,release_time,processing_time_min,processing_time_max"
+         * for each job
+         */
+        CSV("csv"),
+
+        /**
+         * A JSON object for each instance
+         */
+        JSON("json");
+
+        /**
+         * The extension of the files in the format
+         */
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Get the extension of the files in the format
+         * @return the extension
+         */
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Get the format corresponding to a name (e.g. "csv")
+         * @param name the name of the format
+         * @return the format
+         */
+        public static Format fromString(String name) {
+            return valueOf(name.trim().toUpperCase());
+        }
+    }
+
+    /**
+     * The format of the exporter
+     */
+    private final Format format;
+
+    /**
+     * Constructor
+     * @param format the format of the exporter
+     */
+    public InstanceExporter(Format format) {
+        this.format = format;
+    }
+
+    /**
+     * Write an instance
+     * The writer is not closed
+     *
+     * @param instance the instance
+     * @param writer the writer
+     * @throws IOException if the instance cannot be written
+     */
+    public void export(Instance instance, Writer writer) throws IOException {
+        switch (format) {
+            case TEXT:
+                writeText(instance, writer);
+                break;
+            case CSV:
+                writer.write(CSV_HEADER);
+                writeCsvRows(instance, writer);
+                break;
+            case JSON:
+                writeJson(instance, writer);
+                writer.write('\n');
+                break;
+            default:
+                throw new IllegalStateException("Unknown format " + format);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Write several instances in a file
+     * The text and CSV files can be read back as a source of instances
+     * The JSON file contains an array of instances
+     *
+     * @param instances the instances
+     * @param file the file
+     * @return the number of instances written
+     * @throws IOException if the file cannot be written
+     */
+    public int exportAll(Iterable<Instance> instances, Path file) throws IOException {
+        int count = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+            } else if (format == Format.JSON) {
+                writer.write("[\n");
+            }
+            for (Instance instance : instances) {
+                switch (format) {
+                    case TEXT:
+                        writeText(instance, writer);
+                        break;
+                    case CSV:
+                        writeCsvRows(instance, writer);
+                        break;
+                    case JSON:
+                        if (count > 0) {
+                            writer.write(",\n");
+                        }
+                        writeJson(instance, writer);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown format " + format);
+                }
+                count++;
+            }
+            if (format == Format.JSON) {
+                writer.write("\n]\n");
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Write an instance in its own file "instances-name.extension" in a directory
+     * @param instance the instance
+     * @param directory the directory
+     * @return the file
+     * @throws IOException if the file cannot be written
+     */
+    public Path exportToDirectory(Instance instance, Path directory) throws IOException {
+        Path file = directory.resolve("instances-" + instance.getName() + "." + format.getExtension());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            export(instance, writer);
+        }
+        return file;
+    }
+
+    /**
+     * Write an instance as a text table
+     * @param instance the instance
+     * @param writer the writer
+     * @throws IOException if the instance cannot be written
+     */
+    private static void writeText(Instance instance, Writer writer) throws IOException {
+        // Instance metadata
+        writer.write(String.format("********* Instance %s *********%n", instance.getName()));
+        writer.write(String.format("Number of jobs: %d%n", instance.getNumberOfJobs()));
+        writer.write(String.format("Min processing time: %d%n", instance.getProcessingTimeMin()));
+        writer.write(String.format("Max processing time: %d%n", instance.getProcessingTimeMax()));
+        writer.write(String.format("%n"));
+
+        // Table header
+        String[] columnNames = {
+                "#",
+                "Processing time",
+                "Release time"
+        };
+
+        // Fill table with instance data
+        Object[][] data = new Object[instance.getNumberOfJobs()][3];
+        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+            Job j = instance.getJob(jobId);
+            data[jobId-1][0] = j.getId();
+            data[jobId-1][1] = j.getProcessingTime();
+            data[jobId-1][2] = j.getReleaseTime();
+        }
+
+        // The table can only be printed on a stream
+        ByteArrayOutputStream table = new ByteArrayOutputStream();
+        try (PrintStream tableStream = new PrintStream(table, false, StandardCharsets.UTF_8.name())) {
+            new TextTable(columnNames, data).printTable(tableStream, 0);
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        writer.write(new String(table.toByteArray(), StandardCharsets.UTF_8));
+
+        writer.write(String.format("************************************%n"));
+        writer.write(String.format("____________________________________%n%n%n%n"));
+    }
+
+    /**
+     * Write the jobs of an instance as CSV rows
+     * Every row repeats the minimum and the maximum processing time declared by the instance,
+     * so that they are read back unchanged
+     * @param instance the instance
+     * @param writer the writer
+     * @throws IOException if the instance cannot be written
+     */
+    private static void writeCsvRows(Instance instance, Writer writer) throws IOException {
+        StringBuilder row = new StringBuilder();
+        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+            Job j = instance.getJob(jobId);
+            row.setLength(0);
+            row.append(instance.getName()).append(',')
+                    .append(j.getId()).append(',')
+                    .append(j.getProcessingTime()).append(',')
+                    .append(j.getReleaseTime()).append(',')
+                    .append(instance.getProcessingTimeMin()).append(',')
+                    .append(instance.getProcessingTimeMax()).append('\n');
+            writer.append(row);
+        }
+    }
+
+    /**
+     * Write an instance as a JSON object
+     * @param instance the instance
+     * @param writer the writer
+     * @throws IOException if the instance cannot be written
+     */
+    private static void writeJson(Instance instance, Writer writer) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"name\": ");
+        appendJsonString(json, instance.getName());
+        json.append(", \"numberOfJobs\": ").append(instance.getNumberOfJobs())
+                .append(", \"processingTimeMin\": ").append(instance.getProcessingTimeMin())
+                .append(", \"processingTimeMax\": ").append(instance.getProcessingTimeMax())
+                .append(", \"jobs\": [");
+        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+            Job j = instance.getJob(jobId);
+            if (jobId > 1) {
+                json.append(", ");
+            }
+            json.append("{\"id\": ").append(j.getId())
+                    .append(", \"processingTime\": ").append(j.getProcessingTime())
+                    .append(", \"releaseTime\": ").append(j.getReleaseTime())
+                    .append('}');
+        }
+        json.append("]}");
+        writer.append(json);
+    }
+
+    /**
+     * Append a string as a JSON string literal
+     * @param json the JSON text
+     * @param value the string
+     */
+    static void appendJsonString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                    break;
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,125 @@
+package branch_and_bound;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * This class generates random instances in memory, with the classical
+ * parameterization of Hariri and Potts:
+ * the processing times are uniform in [pmin, pmax] and the release times are
+ * uniform in [0, mean processing time * n * R], where R is the release time
+ * tightness
+ * With a small R the jobs are released almost together and the instance is
+ * close to the SPT problem, with a large R the jobs are far apart and the
+ * instance is easy too: the hard instances have R around 0.6 - 1.0
+ * The random generator is seeded, so the instances are reproducible
+ */
+public final class InstanceGenerator {
+    /**
+     * The minimum processing time
+     */
+    private final int processingTimeMin;
+
+    /**
+     * The maximum processing time
+     */
+    private final int processingTimeMax;
+
+    /**
+     * The release time tightness R
+     */
+    private final double tightness;
+
+    /**
+     * The seed of the random generator
+     */
+    private final long seed;
+
+    /**
+     * Constructor with the processing times in [1, 100] (the classical range)
+     * @param tightness the release time tightness R
+     * @param seed the seed of the random generator
+     */
+    public InstanceGenerator(double tightness, long seed) {
+        this(1, 100, tightness, seed);
+    }
+
+    /**
+     * Constructor
+     * @param processingTimeMin the minimum processing time
+     * @param processingTimeMax the maximum processing time
+     * @param tightness the release time tightness R
+     * @param seed the seed of the random generator
+     */
+    public InstanceGenerator(int processingTimeMin, int processingTimeMax, double tightness, long seed) {
+        if (processingTimeMin <= 0 || processingTimeMax < processingTimeMin) {
+            throw new IllegalArgumentException("Invalid processing time range [" + processingTimeMin + ", " + processingTimeMax + "]");
+        }
+        if (tightness < 0) {
+            throw new IllegalArgumentException("Invalid release time tightness " + tightness);
+        }
+        this.processingTimeMin = processingTimeMin;
+        this.processingTimeMax = processingTimeMax;
+        this.tightness = tightness;
+        this.seed = seed;
+    }
+
+    /**
+     * Generate an instance
+     * The instance depends only on the parameters of the generator, on the
+     * number of jobs and on the index, so every instance can be generated
+     * again on its own
+     * @param numberOfJobs the number of jobs
+     * @param index the index of the instance, to generate several instances of the same size
+     * @return the instance
+     */
+    public Instance generate(int numberOfJobs, int index) {
+        if (numberOfJobs <= 0) {
+            throw new IllegalArgumentException("Invalid number of jobs " + numberOfJobs);
+        }
+        // A different stream for each size and index
+        Random random = new Random(seed ^ ((long) numberOfJobs << 32) ^ index);
+        int releaseTimeMax = (int) Math.round((processingTimeMin + processingTimeMax) / 2.0 * numberOfJobs * tightness);
+
+        Instance instance = new Instance();
+        instance.setName(getName(numberOfJobs, index));
+        instance.setNumberOfJobs(numberOfJobs);
+        instance.setProcessingTimeMin(processingTimeMin);
+        instance.setProcessingTimeMax(processingTimeMax);
+        for (int jobId = 1; jobId <= numberOfJobs; jobId++) {
+            int processingTime = processingTimeMin + random.nextInt(processingTimeMax - processingTimeMin + 1);
+            int releaseTime = random.nextInt(releaseTimeMax + 1);
+            instance.addJob(new Job(jobId, processingTime, releaseTime));
+        }
+        instance.sortJobs();
+        return instance;
+    }
+
+    /**
+     * Generate some instances of each size
+     * @param sizes the numbers of jobs
+     * @param instancesPerSize the number of instances of each size
+     * @return the instances, by increasing index for each size
+     */
+    public Instance[] generate(int[] sizes, int instancesPerSize) {
+        Instance[] instances = new Instance[sizes.length * instancesPerSize];
+        int i = 0;
+        for (int numberOfJobs : sizes) {
+            for (int index = 0; index < instancesPerSize; index++) {
+                instances[i++] = generate(numberOfJobs, index);
+            }
+        }
+        return instances;
+    }
+
+    /**
+     * Get the name of a generated instance, which records its parameters
+     * @param numberOfJobs the number of jobs
+     * @param index the index of the instance
+     * @return the name
+     */
+    private String getName(int numberOfJobs, int index) {
+        return String.format(Locale.ROOT, "hp-n%d-p%d-%d-R%.2f-s%d-%d",
+                numberOfJobs, processingTimeMin, processingTimeMax, tightness, seed, index);
+    }
+}
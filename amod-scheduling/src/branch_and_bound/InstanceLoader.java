@@ -0,0 +1,96 @@
+package branch_and_bound;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * This class reads the instances of a source in a separate thread,
+ * so that the next instances are parsed while the current one is being solved
+ * The loader keeps at most a fixed number of instances ahead of the consumer
+ */
+final class InstanceLoader implements Iterator<Instance> {
+    /**
+     * The marker of the end of the source
+     */
+    private static final Instance END = new Instance();
+
+    /**
+     * The instances read and not yet consumed
+     */
+    private final BlockingQueue<Instance> queue;
+
+    /**
+     * The error raised by the source, if any
+     */
+    private volatile RuntimeException error;
+
+    /**
+     * The next instance, null if it has not been taken from the queue yet
+     */
+    private Instance next;
+
+    /**
+     * Start reading the instances of a source
+     * @param source the instances
+     * @param capacity the maximum number of instances read ahead
+     */
+    InstanceLoader(final Iterator<Instance> source, int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity + 1);
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (source.hasNext()) {
+                        queue.put(source.next());
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    // Report the error to the consumer
+                    error = e;
+                }
+                try {
+                    queue.put(END);
+                } catch (InterruptedException e) {
+                    // The consumer is not waiting anymore
+                }
+            }
+        }, "instance-loader");
+        // The loader must not keep the application alive if the consumer stops early
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                next = END;
+            }
+        }
+        if (next == END) {
+            // Put the marker back for the next calls
+            queue.offer(END);
+            if (error != null) {
+                throw error;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Instance next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Instance instance = next;
+        next = null;
+        return instance;
+    }
+}
@@ -0,0 +1,155 @@
+package branch_and_bound;
+
+/**
+ * This class builds an instance from the cells of a sheet, read row by row:
+ * the text cells (e.g. "n =", "pmin", "release t") move the parser to a new state
+ * and the numeric cells are interpreted according to the current state
+ * Check the documentation for a detailed explanation of instance file format
+ */
+final class InstanceParser {
+    /**
+     * The name of the instance
+     */
+    private final String name;
+
+    /**
+     * The state of the parser
+     */
+    private ParserState currentState = ParserState.NONE;
+
+    /**
+     * The instance being built
+     * It is null until the number of jobs has been read
+     */
+    private Instance instance;
+
+    /**
+     * The job being read
+     */
+    private Job job;
+
+    /**
+     * The number of jobs read
+     */
+    private int numberOfJobsRead = 0;
+
+    /**
+     * The first inconsistency found in the layout of the sheet, null if none has been found
+     */
+    private String inconsistency;
+
+    /**
+     * Constructor
+     * @param name the name of the instance (i.e. the name of the sheet)
+     */
+    InstanceParser(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Parse a text cell
+     * @param value the text of the cell
+     */
+    void parseString(String value) {
+        switch (value) {
+            case "n =":
+                currentState = ParserState.NUMBER_OF_JOBS;
+                break;
+            case "pmin":
+                currentState = ParserState.PROCESSING_TIME_MIN;
+                break;
+            case "pmax":
+                currentState = ParserState.PROCESSING_TIME_MAX;
+                break;
+            case "job":
+                currentState = ParserState.PROCESSING_TIME_TEXT;
+                break;
+            case "processing t":
+                currentState = ParserState.RELEASE_TIME_TEXT;
+                break;
+            case "release t":
+                currentState = ParserState.JOB_VALUE;
+                break;
+            default:
+                currentState = ParserState.NONE;
+                break;
+        }
+    }
+
+    /**
+     * Parse a numeric cell
+     * @param value the value of the cell
+     */
+    void parseNumber(double value) {
+        switch (currentState) {
+            case NUMBER_OF_JOBS:
+                instance = new Instance();
+                instance.setName(name);
+                instance.setNumberOfJobs((int) value);
+                break;
+            case PROCESSING_TIME_MIN:
+                instance.setProcessingTimeMin((int) value);
+                break;
+            case PROCESSING_TIME_MAX:
+                instance.setProcessingTimeMax((int) value);
+                break;
+            case PROCESSING_TIME_TEXT:
+                inconsistent("number " + value + " instead of the processing time header");
+                break;
+            case RELEASE_TIME_TEXT:
+                inconsistent("number " + value + " instead of the release time header");
+                break;
+            case JOB_VALUE:
+                job = new Job();
+                job.setId((int) value);
+                currentState = ParserState.PROCESSING_TIME_VALUE;
+                break;
+            case PROCESSING_TIME_VALUE:
+                job.setProcessingTime((int) value);
+                currentState = ParserState.RELEASE_TIME_VALUE;
+                break;
+            case RELEASE_TIME_VALUE:
+                job.setReleaseTime((int) value);
+                currentState = ParserState.JOB_VALUE;
+                instance.addJob(job);
+                numberOfJobsRead++;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Record an inconsistency in the layout of the sheet
+     * Only the first one is reported
+     * @param description the description of the inconsistency
+     */
+    private void inconsistent(String description) {
+        if (inconsistency == null) {
+            inconsistency = description;
+        }
+    }
+
+    /**
+     * Get the parsed instance
+     * The problems of the sheet are reported on the standard error
+     * @return the instance, or null if the sheet does not contain a complete and consistent instance
+     */
+    Instance getInstance() {
+        if (instance != null && instance.getNumberOfJobs() <= 0) {
+            System.err.println("Empty instance " + name);
+            return null;
+        }
+        if (instance != null && inconsistency != null) {
+            System.err.println("Inconsistent instance " + name + ": " + inconsistency);
+            return null;
+        }
+        if (instance != null && numberOfJobsRead != instance.getNumberOfJobs()) {
+            // Consistency check
+            System.err.println("Inconsistent instance " + name + ": " + numberOfJobsRead +
+                    " jobs read, " + instance.getNumberOfJobs() + " expected");
+            return null;
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,42 @@
+package branch_and_bound;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * This interface represents a source of instances, read one at a time
+ * The instances are parsed only when the iterator reaches them,
+ * so a source can be larger than the available memory
+ * A source has to be closed when it is not needed anymore
+ */
+public interface InstanceSource extends Iterable<Instance>, Closeable {
+
+    /**
+     * Open a source of instances
+     * The format is given by the content of the file: a binary dataset (see BinaryInstanceFormat),
+     * or by the extension of the file: a text file written by InstanceExporter (.txt),
+     * a CSV file (.csv), an AMPL data file (.dat) or a xlsx file (.xlsx)
+     *
+     * @param filename the name of the file
+     * @return the source
+     * @throws IOException if the file cannot be opened or its format is unknown
+     */
+    static InstanceSource open(String filename) throws IOException {
+        if (BinaryInstanceFormat.isBinaryFile(filename)) {
+            return new BinaryInstanceFormat.Reader(filename);
+        }
+        String extension = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase();
+        switch (extension) {
+            case "txt":
+                return new TextInstanceReader(filename);
+            case "csv":
+                return new CsvInstanceReader(filename);
+            case "dat":
+                return new AmplInstanceReader(filename);
+            case "xlsx":
+                return new XlsxInstanceReader(filename);
+            default:
+                throw new IOException("Unknown format of " + filename);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package branch_and_bound;
+
+/**
+ * Two-job interchange test on the tail of the partial sequence:
+ * let l be the last job of the partial solution and j the appended job
+ * If the sequence ending with (j, l) has makespan and sum of completion times
+ * not greater than the sequence ending with (l, j), the latter is dominated
+ * because both sequences schedule the same jobs
+ * In case of a tie, only the sequence with the smaller id in the last position is pruned
+ */
+class InterchangeDominanceRule extends DominanceRule {
+
+    @Override
+    String getName() {
+        return "interchange";
+    }
+
+    @Override
+    protected boolean dominates(SolveContext context, TreeNode node, int jobId, SrptKernel kernel) {
+        if (node.getParent() == null) {
+            // The partial solution is empty
+            return false;
+        }
+        int releaseTimeJ = context.getReleaseTime(jobId);
+        int processingTimeJ = context.getProcessingTime(jobId);
+
+        // Sequence (l, j)
+        int completionTimeL = node.getMakespan();
+        int completionTimeJ = Math.max(completionTimeL, releaseTimeJ) + processingTimeJ;
+
+        // Sequence (j, l)
+        int previousMakespan = node.getParent().getMakespan();
+        int swappedCompletionTimeJ = Math.max(previousMakespan, releaseTimeJ) + processingTimeJ;
+        int swappedCompletionTimeL = Math.max(swappedCompletionTimeJ, context.getReleaseTime(node.getJobId())) +
+                context.getProcessingTime(node.getJobId());
+
+        if (swappedCompletionTimeL > completionTimeJ) {
+            // The exchange increases the makespan
+            return false;
+        }
+        int sum = completionTimeL + completionTimeJ;
+        int swappedSum = swappedCompletionTimeJ + swappedCompletionTimeL;
+        if (swappedSum < sum || swappedCompletionTimeL < completionTimeJ) {
+            return swappedSum <= sum;
+        }
+        // Same makespan and same sum: keep only one of the two sequences
+        return swappedSum == sum && jobId < node.getJobId();
+    }
+}
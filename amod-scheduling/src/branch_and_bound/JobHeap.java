@@ -0,0 +1,116 @@
+package branch_and_bound;
+
+/**
+ * This class represents a binary heap of job ids (a flat int array, no boxing)
+ * The priority of the jobs is given by an array of keys, owned by the caller:
+ * the job with the smallest key (ties broken by id) is in position 0
+ * The key of a job must not change while the job is in the heap,
+ * except for the job on top, whose key can only decrease
+ * The keys are compared inline, without a comparator object: the heap is on the hot path of the lower bounds
+ * The array is allocated once, so adding and removing jobs does not allocate memory
+ * A heap is not thread safe
+ */
+final class JobHeap {
+    /**
+     * The key of each job (index jobId-1)
+     */
+    private final int[] keys;
+
+    /**
+     * The ids of the jobs in the heap
+     */
+    private final int[] heap;
+
+    /**
+     * The number of jobs in the heap
+     */
+    private int size;
+
+    /**
+     * Constructor
+     * @param keys the key of each job (index jobId-1), shared with the caller
+     */
+    JobHeap(int[] keys) {
+        this.keys = keys;
+        this.heap = new int[keys.length];
+        this.size = 0;
+    }
+
+    /**
+     * Remove all the jobs
+     */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Check if the heap is empty
+     * @return true if the heap contains no job
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the job with the smallest key, without removing it
+     * @return the id of the job
+     */
+    int peek() {
+        return heap[0];
+    }
+
+    /**
+     * Add a job to the heap
+     * @param jobId the id of the job
+     */
+    void add(int jobId) {
+        // Sift up
+        int position = size++;
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!precedes(jobId, heap[parent])) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = jobId;
+    }
+
+    /**
+     * Remove the job with the smallest key
+     * @return the id of the job
+     */
+    int poll() {
+        int first = heap[0];
+        int jobId = heap[--size];
+        // Sift down
+        int position = 0;
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && precedes(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!precedes(heap[child], jobId)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = jobId;
+        return first;
+    }
+
+    /**
+     * Compare two jobs considering their keys (ties broken by id)
+     * @param jobId1 the first job
+     * @param jobId2 the second job
+     * @return true if the first job comes before the second one
+     */
+    private boolean precedes(int jobId1, int jobId2) {
+        int key1 = keys[jobId1-1];
+        int key2 = keys[jobId2-1];
+        return key1 < key2 || (key1 == key2 && jobId1 < jobId2);
+    }
+}
@@ -0,0 +1,157 @@
+package branch_and_bound;
+
+import java.util.Arrays;
+
+/**
+ * This class represents a set of jobs of an instance as a bitset:
+ * the job with id jobId is bit (jobId-1), in words of 64 jobs
+ * (a single word for the instances with at most 64 jobs)
+ *
+ * Membership is a single word operation and the jobs not in the set are
+ * enumerated skipping 64 jobs at a time when a word is full
+ * Two sets are equal if they contain the same jobs, so a set can be used
+ * as key of a hash table, as long as it is not modified afterwards
+ * A set is not thread safe
+ */
+final class JobSet {
+    /**
+     * The number of jobs of the instance
+     */
+    private final int numberOfJobs;
+
+    /**
+     * The bits of the jobs
+     */
+    private final long[] words;
+
+    /**
+     * Constructor of an empty set
+     * @param numberOfJobs the number of jobs of the instance
+     */
+    JobSet(int numberOfJobs) {
+        this.numberOfJobs = numberOfJobs;
+        this.words = new long[(numberOfJobs + 63) >>> 6];
+    }
+
+    /**
+     * Constructor of a copy
+     * @param other the set to be copied
+     */
+    private JobSet(JobSet other) {
+        this.numberOfJobs = other.numberOfJobs;
+        this.words = other.words.clone();
+    }
+
+    /**
+     * Get a copy of the set
+     * @return the copy
+     */
+    JobSet copy() {
+        return new JobSet(this);
+    }
+
+    /**
+     * Get the number of jobs of the instance
+     * @return the number of jobs
+     */
+    int getNumberOfJobs() {
+        return numberOfJobs;
+    }
+
+    /**
+     * Check if the job is in the set
+     * @param jobId the id of the job
+     * @return true if the job is in the set
+     */
+    boolean contains(int jobId) {
+        return (words[(jobId - 1) >>> 6] & (1L << (jobId - 1))) != 0;
+    }
+
+    /**
+     * Add a job to the set
+     * @param jobId the id of the job
+     */
+    void add(int jobId) {
+        words[(jobId - 1) >>> 6] |= 1L << (jobId - 1);
+    }
+
+    /**
+     * Remove a job from the set
+     * @param jobId the id of the job
+     */
+    void remove(int jobId) {
+        words[(jobId - 1) >>> 6] &= ~(1L << (jobId - 1));
+    }
+
+    /**
+     * Remove all the jobs
+     */
+    void clear() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * Get the number of jobs in the set
+     * @return the number of jobs
+     */
+    int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Get the first job not in the set, starting from a job
+     * The jobs not in the set are enumerated with
+     * for (int jobId = set.nextAbsent(1); jobId != -1; jobId = set.nextAbsent(jobId + 1))
+     *
+     * @param jobId the id of the first job to be checked
+     * @return the id of the job, or -1 if all the following jobs are in the set
+     */
+    int nextAbsent(int jobId) {
+        if (jobId > numberOfJobs) {
+            return -1;
+        }
+        int index = (jobId - 1) >>> 6;
+        // The bits before the job count as present
+        long absent = ~words[index] & (-1L << (jobId - 1));
+        while (absent == 0) {
+            if (++index == words.length) {
+                return -1;
+            }
+            absent = ~words[index];
+        }
+        int next = (index << 6) + Long.numberOfTrailingZeros(absent) + 1;
+        return next <= numberOfJobs ? next : -1;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof JobSet && Arrays.equals(words, ((JobSet) o).words);
+    }
+
+    /**
+     * Get a string representation of the set
+     * @return the ids of the jobs in the set
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int jobId = 1; jobId <= numberOfJobs; jobId++) {
+            if (contains(jobId)) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append(jobId);
+            }
+        }
+        return sb.append("}").toString();
+    }
+}
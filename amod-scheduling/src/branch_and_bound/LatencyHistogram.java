@@ -0,0 +1,121 @@
+package branch_and_bound;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class collects a histogram of durations measured in nanoseconds
+ *
+ * The buckets have power of two bounds: bucket b counts the durations
+ * in [2^(b-1), 2^b) nanoseconds, so 64 buckets cover every duration
+ * with a relative error of at most a factor of two
+ * The buckets are striped counters, so the workers can record concurrently
+ */
+public final class LatencyHistogram {
+    /**
+     * The number of buckets
+     */
+    private static final int BUCKETS = 64;
+
+    /**
+     * The number of durations in each bucket
+     */
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    /**
+     * The sum of the durations
+     */
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Constructor
+     */
+    LatencyHistogram() {
+        for (int b = 0; b < BUCKETS; b++) {
+            counts[b] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a duration
+     * @param nanos the duration in nanoseconds
+     */
+    void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos))].increment();
+        total.add(nanos);
+    }
+
+    /**
+     * Get the number of durations recorded
+     * @return the number of durations
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder c : counts) {
+            count += c.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Get the mean duration
+     * @return the mean in nanoseconds, 0 if nothing has been recorded
+     */
+    public double getMean() {
+        long count = getCount();
+        return count > 0 ? (double) total.sum() / count : 0;
+    }
+
+    /**
+     * Get an upper bound of a percentile of the durations
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket which contains the percentile, in nanoseconds
+     */
+    public long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            snapshot[b] = counts[b].sum();
+            count += snapshot[b];
+        }
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += snapshot[b];
+            if (seen >= rank && snapshot[b] > 0) {
+                return b == 0 ? 0 : (1L << b) - 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Append the histogram as a JSON object
+     * Only the buckets with some durations are listed, by upper bound in nanoseconds
+     * @param json the JSON text
+     */
+    void appendJson(StringBuilder json) {
+        json.append("{\"count\": ").append(getCount())
+                .append(", \"meanNanos\": ").append(String.format(Locale.ROOT, "%.1f", getMean()))
+                .append(", \"p50Nanos\": ").append(getPercentile(50))
+                .append(", \"p90Nanos\": ").append(getPercentile(90))
+                .append(", \"p99Nanos\": ").append(getPercentile(99))
+                .append(", \"buckets\": {");
+        boolean first = true;
+        for (int b = 0; b < BUCKETS; b++) {
+            long count = counts[b].sum();
+            if (count == 0) {
+                continue;
+            }
+            if (!first) {
+                json.append(", ");
+            }
+            json.append('"').append(b == 0 ? 0 : (1L << b) - 1).append("\": ").append(count);
+            first = false;
+        }
+        json.append("}}");
+    }
+}
@@ -0,0 +1,38 @@
+package branch_and_bound;
+
+/**
+ * The partial solution followed by the job j is not an active schedule
+ * if j fits in an idle interval of the partial solution: it can be moved
+ * into the interval without delaying any other job, decreasing its completion time
+ * Therefore the subtree rooted in j can be pruned
+ */
+class LeftShiftDominanceRule extends DominanceRule {
+
+    @Override
+    String getName() {
+        return "left shift";
+    }
+
+    @Override
+    protected boolean dominates(SolveContext context, TreeNode node, int jobId, SrptKernel kernel) {
+        int releaseTimeJ = context.getReleaseTime(jobId);
+        int processingTimeJ = context.getProcessingTime(jobId);
+        int earliestCompletionTime = releaseTimeJ + processingTimeJ;
+
+        // Walk the partial solution backwards
+        for (TreeNode n = node; n.getParent() != null; n = n.getParent()) {
+            int startInstant = n.getMakespan() - context.getProcessingTime(n.getJobId());
+            if (startInstant < earliestCompletionTime) {
+                // The previous intervals end even earlier: j cannot fit in them
+                return false;
+            }
+            // The idle interval before the job of node n
+            int idleStart = n.getParent().getMakespan();
+            if (idleStart < startInstant &&
+                    Math.max(idleStart, releaseTimeJ) + processingTimeJ <= startInstant) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
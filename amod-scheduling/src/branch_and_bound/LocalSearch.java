@@ -0,0 +1,315 @@
+package branch_and_bound;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static branch_and_bound.Constants.LOCAL_SEARCH_MAX_BLOCK_LENGTH;
+
+/**
+ * This class improves the incumbents found by the branch and bound algorithm
+ * It runs in its own thread, alongside the workers of the pool: each new incumbent
+ * is handed to the local search, which explores the neighborhoods of its sequence
+ * and gives back every improvement as a new incumbent
+ *
+ * A move of a block of consecutive jobs (adjacent swap, insertion of a job,
+ * move of a block of jobs) changes the completion times only from the first
+ * moved position: the evaluation starts there and stops as soon as a completion time
+ * equals the old one, because the rest of the sequence is not affected
+ */
+final class LocalSearch implements Runnable {
+    /**
+     * The reference to the instance to be solved
+     */
+    private final Instance instance;
+
+    /**
+     * The branch and bound algorithm which receives the improvements
+     */
+    private final BranchAndBound branchAndBound;
+
+    /**
+     * The last incumbent handed to the local search and not yet taken
+     */
+    private final AtomicReference<Solution> pending = new AtomicReference<>();
+
+    /**
+     * True if the local search has been asked to stop
+     */
+    private volatile boolean stopped = false;
+
+    /**
+     * The thread running the local search
+     */
+    private Thread thread;
+
+    /**
+     * The number of improvements given back to the branch and bound algorithm
+     */
+    private volatile int countImprovements = 0;
+
+    /**
+     * The processing time of each job (index jobId-1)
+     */
+    private final int[] processingTimes;
+
+    /**
+     * The release time of each job (index jobId-1)
+     */
+    private final int[] releaseTimes;
+
+    /**
+     * The sequence being improved (job ids)
+     */
+    private final int[] sequence;
+
+    /**
+     * The completion time of the job in each position of the sequence
+     */
+    private final int[] completionTimes;
+
+    /**
+     * The moved part of the sequence, for the move being evaluated
+     */
+    private final int[] movedSequence;
+
+    /**
+     * The sum of the completion times of the sequence
+     */
+    private int sumOfCompletionTimes;
+
+    /**
+     * Constructor
+     * @param instance the instance to be solved
+     * @param branchAndBound the algorithm which receives the improvements
+     */
+    LocalSearch(Instance instance, BranchAndBound branchAndBound) {
+        this.instance = instance;
+        this.branchAndBound = branchAndBound;
+        int numberOfJobs = instance.getNumberOfJobs();
+        processingTimes = instance.getProcessingTimes();
+        releaseTimes = instance.getReleaseTimes();
+        sequence = new int[numberOfJobs];
+        completionTimes = new int[numberOfJobs];
+        movedSequence = new int[numberOfJobs];
+    }
+
+    /**
+     * Start the thread of the local search
+     */
+    void start() {
+        thread = new Thread(this, "local-search");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stop the local search and wait for its thread
+     */
+    void stop() {
+        stopped = true;
+        synchronized (this) {
+            notifyAll();
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Hand a new incumbent to the local search
+     * If the previous one has not yet been taken, it is replaced
+     * @param solution the incumbent
+     */
+    void submit(Solution solution) {
+        pending.set(solution);
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Get the number of improvements given back to the branch and bound algorithm
+     * @return the number of improvements
+     */
+    int getCountImprovements() {
+        return countImprovements;
+    }
+
+    @Override
+    public void run() {
+        while (!stopped) {
+            Solution solution = pending.getAndSet(null);
+            if (solution == null) {
+                // Wait for a new incumbent
+                synchronized (this) {
+                    while (!stopped && pending.get() == null) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+                continue;
+            }
+            improve(solution);
+        }
+    }
+
+    /**
+     * Improve a solution until it is a local optimum for all the neighborhoods
+     * @param solution the solution
+     */
+    private void improve(final Solution solution) {
+        // Rebuild the sequence ordering the jobs by completion time
+        Integer[] jobIds = new Integer[sequence.length];
+        for (int jobId = 1; jobId <= jobIds.length; jobId++) {
+            jobIds[jobId-1] = jobId;
+        }
+        Arrays.sort(jobIds, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer j1, Integer j2) {
+                return Integer.compare(solution.getCompletionTimeForScheduledJob(j1),
+                        solution.getCompletionTimeForScheduledJob(j2));
+            }
+        });
+        for (int position = 0; position < sequence.length; position++) {
+            sequence[position] = jobIds[position];
+        }
+        updateCompletionTimes(0);
+
+        boolean improved = true;
+        while (improved && !stopped && pending.get() == null) {
+            // Adjacent swaps, then insertions, then moves of longer blocks
+            improved = improveAdjacentSwaps() || improveBlockMoves(1);
+            for (int length = 2; !improved && length <= LOCAL_SEARCH_MAX_BLOCK_LENGTH; length++) {
+                improved = improveBlockMoves(length);
+            }
+            if (improved && branchAndBound.offerImprovedSolution(toSolution())) {
+                countImprovements++;
+            }
+        }
+    }
+
+    /**
+     * Apply the first improving swap of two adjacent jobs
+     * @return true if the sequence has been improved
+     */
+    private boolean improveAdjacentSwaps() {
+        for (int position = 0; position + 1 < sequence.length; position++) {
+            if (evaluateBlockMove(position, 1, position + 1) < 0) {
+                applyMove(position, position + 1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Apply the first improving move of a block of consecutive jobs
+     * @param length the number of jobs in the block (1 for the insertion of a job)
+     * @return true if the sequence has been improved
+     */
+    private boolean improveBlockMoves(int length) {
+        for (int from = 0; from + length <= sequence.length; from++) {
+            for (int to = 0; to + length <= sequence.length; to++) {
+                if (to == from || stopped) {
+                    continue;
+                }
+                if (evaluateBlockMove(from, length, to) < 0) {
+                    applyMove(Math.min(from, to), Math.max(from, to) + length - 1);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evaluate the move of a block of consecutive jobs
+     * The moved part of the sequence is left in movedSequence
+     *
+     * @param from the position of the first job of the block
+     * @param length the number of jobs in the block
+     * @param to the new position of the first job of the block
+     * @return the variation of the sum of the completion times
+     */
+    private int evaluateBlockMove(int from, int length, int to) {
+        int first;
+        int last;
+        if (to < from) {
+            // The block moves backwards: the jobs in [to, from) move after it
+            first = to;
+            last = from + length - 1;
+            System.arraycopy(sequence, from, movedSequence, to, length);
+            System.arraycopy(sequence, to, movedSequence, to + length, from - to);
+        } else {
+            // The block moves forwards: the jobs in (from + length, to + length) move before it
+            first = from;
+            last = to + length - 1;
+            System.arraycopy(sequence, from + length, movedSequence, from, to - from);
+            System.arraycopy(sequence, from, movedSequence, to, length);
+        }
+
+        // Completion times of the moved part
+        int currentTime = first > 0 ? completionTimes[first-1] : 0;
+        int delta = 0;
+        for (int position = first; position <= last; position++) {
+            int jobId = movedSequence[position];
+            currentTime = Math.max(currentTime, releaseTimes[jobId-1]) + processingTimes[jobId-1];
+            delta += currentTime - completionTimes[position];
+        }
+        // Completion times of the following jobs, until one is not changed
+        for (int position = last + 1; position < sequence.length && currentTime != completionTimes[position-1]; position++) {
+            int jobId = sequence[position];
+            currentTime = Math.max(currentTime, releaseTimes[jobId-1]) + processingTimes[jobId-1];
+            delta += currentTime - completionTimes[position];
+        }
+        return delta;
+    }
+
+    /**
+     * Apply the move evaluated last
+     * @param first the first position changed by the move
+     * @param last the last position changed by the move
+     */
+    private void applyMove(int first, int last) {
+        System.arraycopy(movedSequence, first, sequence, first, last - first + 1);
+        updateCompletionTimes(first);
+    }
+
+    /**
+     * Update the completion times and their sum starting from a position
+     * @param first the first position to be updated
+     */
+    private void updateCompletionTimes(int first) {
+        int currentTime = first > 0 ? completionTimes[first-1] : 0;
+        for (int position = first; position < sequence.length; position++) {
+            int jobId = sequence[position];
+            currentTime = Math.max(currentTime, releaseTimes[jobId-1]) + processingTimes[jobId-1];
+            completionTimes[position] = currentTime;
+        }
+        sumOfCompletionTimes = 0;
+        for (int completionTime : completionTimes) {
+            sumOfCompletionTimes += completionTime;
+        }
+    }
+
+    /**
+     * Build the solution given by the sequence
+     * @return the solution
+     */
+    private Solution toSolution() {
+        Solution solution = new Solution(instance);
+        for (int position = 0; position < sequence.length; position++) {
+            int jobId = sequence[position];
+            solution.processAndScheduleJob(jobId, completionTimes[position] - processingTimes[jobId-1]);
+        }
+        return solution;
+    }
+}
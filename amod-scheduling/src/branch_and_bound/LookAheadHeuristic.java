@@ -0,0 +1,51 @@
+package branch_and_bound;
+
+/**
+ * Weighted look-ahead dispatching rule:
+ * waiting for a job which is not yet released leaves the machine idle
+ * and delays all the jobs not yet scheduled
+ * The rule schedules next the job with the smallest index
+ * weight * (number of jobs not yet scheduled) * (idle time) + processing time,
+ * ties broken by the earliest completion time
+ */
+class LookAheadHeuristic extends DispatchingHeuristic {
+    /**
+     * The weight of the idle time
+     */
+    private final double weight;
+
+    /**
+     * Constructor
+     * @param weight the weight of the idle time
+     */
+    LookAheadHeuristic(double weight) {
+        this.weight = weight;
+    }
+
+    @Override
+    String getName() {
+        return "look-ahead (weight " + weight + ")";
+    }
+
+    @Override
+    int select(Instance instance, boolean[] scheduled, int currentTime, int remainingJobs) {
+        int selectedJobId = -1;
+        double selectedIndex = 0;
+        int selectedCompletionTime = 0;
+        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+            if (scheduled[jobId-1]) {
+                continue;
+            }
+            int idleTime = Math.max(0, instance.getReleaseTime(jobId) - currentTime);
+            double index = weight * remainingJobs * idleTime + instance.getProcessingTime(jobId);
+            int completionTime = earliestCompletionTime(instance, jobId, currentTime);
+            if (selectedJobId == -1 || index < selectedIndex ||
+                    (index == selectedIndex && completionTime < selectedCompletionTime)) {
+                selectedJobId = jobId;
+                selectedIndex = index;
+                selectedCompletionTime = completionTime;
+            }
+        }
+        return selectedJobId;
+    }
+}
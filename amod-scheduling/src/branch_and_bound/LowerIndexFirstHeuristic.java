@@ -0,0 +1,27 @@
+package branch_and_bound;
+
+/**
+ * Schedule the jobs in the order given by the instance without preemption
+ */
+class LowerIndexFirstHeuristic extends Heuristic {
+
+    @Override
+    String getName() {
+        return "lower index first";
+    }
+
+    @Override
+    Solution schedule(Instance instance) {
+        // The current instant
+        int currentTime = 0;
+
+        Solution solution = new Solution(instance);
+        // Schedule the jobs
+        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+            // Schedule the job and update the current instant
+            currentTime = scheduleJob(currentTime, instance, jobId, solution);
+        }
+        // Return the result
+        return solution;
+    }
+}
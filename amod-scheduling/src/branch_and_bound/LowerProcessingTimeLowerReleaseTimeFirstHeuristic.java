@@ -0,0 +1,45 @@
+package branch_and_bound;
+
+/**
+ * Schedule the released jobs in the order given by the processing time without preemption
+ */
+class LowerProcessingTimeLowerReleaseTimeFirstHeuristic extends Heuristic {
+
+    @Override
+    String getName() {
+        return "lower processing time among released first";
+    }
+
+    @Override
+    Solution schedule(final Instance instance) {
+        // The current instant
+        int currentTime = 0;
+
+        Solution solution = new Solution(instance);
+        // Schedule the jobs
+        int[] sortedJobs = instance.getJobIdsSortedByReleaseTime();
+        int nextJob = 0;
+        // The released jobs, ordered by processing time (ties broken by id)
+        JobHeap releasedJobs = new JobHeap(instance.getProcessingTimes());
+        do {
+            if (nextJob < sortedJobs.length) {
+                currentTime = Math.max(instance.getReleaseTime(sortedJobs[nextJob]), currentTime);
+            }
+            // Release the jobs with the lowest release times
+            while (nextJob < sortedJobs.length && instance.getReleaseTime(sortedJobs[nextJob]) <= currentTime) {
+                releasedJobs.add(sortedJobs[nextJob++]);
+            }
+
+            while (!releasedJobs.isEmpty()) {
+                // Get the job with the lowest processing time
+                int jobId = releasedJobs.poll();
+
+                // Schedule the job and update the current instant
+                currentTime = scheduleJob(currentTime, instance, jobId, solution);
+            }
+        } while (nextJob < sortedJobs.length);
+
+        // Return the result
+        return solution;
+    }
+}
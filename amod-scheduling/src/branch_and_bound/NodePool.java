@@ -0,0 +1,71 @@
+package branch_and_bound;
+
+import static branch_and_bound.Constants.NODE_POOL_CAPACITY;
+
+/**
+ * This class recycles the tree nodes which are not referenced anymore
+ * (e.g. the pruned children or the explored subtrees), in order to limit
+ * the allocations while branching
+ * A pool is not thread safe: every worker thread owns its own pool
+ */
+final class NodePool {
+    /**
+     * The pool of each thread
+     */
+    private static final ThreadLocal<NodePool> POOLS = new ThreadLocal<NodePool>() {
+        @Override
+        protected NodePool initialValue() {
+            return new NodePool();
+        }
+    };
+
+    /**
+     * The free nodes
+     */
+    private final TreeNode[] nodes;
+
+    /**
+     * The number of free nodes
+     */
+    private int size;
+
+    /**
+     * Constructor
+     */
+    private NodePool() {
+        this.nodes = new TreeNode[NODE_POOL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Get the pool of the current thread
+     * @return the pool
+     */
+    static NodePool forCurrentThread() {
+        return POOLS.get();
+    }
+
+    /**
+     * Get a free node, to be initialized by the caller
+     * @return the node
+     */
+    TreeNode acquire() {
+        if (size > 0) {
+            TreeNode node = nodes[--size];
+            nodes[size] = null;
+            return node;
+        }
+        return new TreeNode();
+    }
+
+    /**
+     * Give back a node which is not referenced anymore
+     * @param node the node
+     */
+    void release(TreeNode node) {
+        node.clear();
+        if (size < nodes.length) {
+            nodes[size++] = node;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package branch_and_bound;
+
+import java.util.EnumSet;
+
+/**
+ * This class contains the parameters of a run of the branch and bound algorithm
+ */
+public class Parameters {
+    /**
+     * The strategy used to explore the enumeration tree
+     */
+    private SearchStrategy searchStrategy;
+
+    /**
+     * The maximum number of open nodes kept in the global frontier
+     * by the hybrid strategy before diving depth first
+     */
+    private int frontierLimit;
+
+    /**
+     * The dominance rules used to prune the children of a node
+     */
+    private EnumSet<DominanceRuleType> dominanceRules;
+
+    /**
+     * The maximum number of sets of scheduled jobs remembered by the state table
+     * If it is 0, the state table is disabled
+     */
+    private int stateTableCapacity;
+
+    /**
+     * True if the incumbents are improved by local search during the run
+     */
+    private boolean localSearch;
+
+    /**
+     * The time limit of the search, in seconds
+     * If it is 0, the search is not limited in time
+     */
+    private int timeLimit;
+
+    /**
+     * The maximum number of nodes expanded by the search
+     * The workers check it periodically, so the search can exceed it by a few nodes per worker
+     * If it is 0, the number of nodes is not limited
+     */
+    private long nodeLimit;
+
+    /**
+     * The directory where the checkpoints of the searches are written
+     * If it is null, no checkpoint is written
+     */
+    private String checkpointDirectory;
+
+    /**
+     * The number of seconds between two checkpoints of a search
+     * If it is 0, the checkpoint is written only when the search terminates
+     */
+    private int checkpointInterval;
+
+    /**
+     * True if a search continues from the checkpoint of its instance, if any
+     */
+    private boolean resume;
+
+    /**
+     * The number of seconds between two progress lines of a search
+     * If it is 0, the progress is not printed
+     */
+    private int progressInterval;
+
+    /**
+     * Default constructor
+     */
+    public Parameters() {
+        this.searchStrategy = SearchStrategy.DEPTH_FIRST;
+        this.frontierLimit = 1000000;
+        this.dominanceRules = EnumSet.allOf(DominanceRuleType.class);
+        this.stateTableCapacity = 1000000;
+        this.localSearch = true;
+        this.timeLimit = 0;
+        this.nodeLimit = 0;
+        this.checkpointDirectory = null;
+        this.checkpointInterval = 60;
+        this.resume = false;
+        this.progressInterval = 0;
+    }
+
+    /* Getters and setters */
+
+    /**
+     * Get the strategy used to explore the enumeration tree
+     * @return the search strategy
+     */
+    public SearchStrategy getSearchStrategy() {
+        return searchStrategy;
+    }
+
+    /**
+     * Set the strategy used to explore the enumeration tree
+     * @param searchStrategy the search strategy
+     */
+    public void setSearchStrategy(SearchStrategy searchStrategy) {
+        this.searchStrategy = searchStrategy;
+    }
+
+    /**
+     * Get the maximum number of open nodes kept in the frontier
+     * @return the frontier limit
+     */
+    public int getFrontierLimit() {
+        return frontierLimit;
+    }
+
+    /**
+     * Set the maximum number of open nodes kept in the frontier
+     * @param frontierLimit the frontier limit
+     */
+    public void setFrontierLimit(int frontierLimit) {
+        this.frontierLimit = frontierLimit;
+    }
+
+    /**
+     * Get the dominance rules used to prune the children of a node
+     * @return the enabled dominance rules
+     */
+    public EnumSet<DominanceRuleType> getDominanceRules() {
+        return dominanceRules;
+    }
+
+    /**
+     * Set the dominance rules used to prune the children of a node
+     * @param dominanceRules the enabled dominance rules
+     */
+    public void setDominanceRules(EnumSet<DominanceRuleType> dominanceRules) {
+        this.dominanceRules = dominanceRules;
+    }
+
+    /**
+     * Get the maximum number of sets of scheduled jobs remembered by the state table
+     * @return the capacity of the state table, 0 if it is disabled
+     */
+    public int getStateTableCapacity() {
+        return stateTableCapacity;
+    }
+
+    /**
+     * Set the maximum number of sets of scheduled jobs remembered by the state table
+     * @param stateTableCapacity the capacity of the state table, 0 to disable it
+     */
+    public void setStateTableCapacity(int stateTableCapacity) {
+        this.stateTableCapacity = stateTableCapacity;
+    }
+
+    /**
+     * Check if the incumbents are improved by local search during the run
+     * @return true if the local search is enabled
+     */
+    public boolean isLocalSearch() {
+        return localSearch;
+    }
+
+    /**
+     * Enable or disable the local search of the incumbents
+     * @param localSearch true to enable the local search
+     */
+    public void setLocalSearch(boolean localSearch) {
+        this.localSearch = localSearch;
+    }
+
+    /**
+     * Get the time limit of the search
+     * @return the time limit in seconds, 0 if the search is not limited in time
+     */
+    public int getTimeLimit() {
+        return timeLimit;
+    }
+
+    /**
+     * Set the time limit of the search
+     * @param timeLimit the time limit in seconds, 0 to disable it
+     */
+    public void setTimeLimit(int timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    /**
+     * Get the maximum number of nodes expanded by the search
+     * @return the node limit, 0 if the number of nodes is not limited
+     */
+    public long getNodeLimit() {
+        return nodeLimit;
+    }
+
+    /**
+     * Set the maximum number of nodes expanded by the search
+     * @param nodeLimit the node limit, 0 to disable it
+     */
+    public void setNodeLimit(long nodeLimit) {
+        this.nodeLimit = nodeLimit;
+    }
+
+    /**
+     * Get the directory where the checkpoints of the searches are written
+     * @return the directory, null if no checkpoint is written
+     */
+    public String getCheckpointDirectory() {
+        return checkpointDirectory;
+    }
+
+    /**
+     * Set the directory where the checkpoints of the searches are written
+     * @param checkpointDirectory the directory, null to disable the checkpoints
+     */
+    public void setCheckpointDirectory(String checkpointDirectory) {
+        this.checkpointDirectory = checkpointDirectory;
+    }
+
+    /**
+     * Get the number of seconds between two checkpoints of a search
+     * @return the interval, 0 if the checkpoint is written only when the search terminates
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Set the number of seconds between two checkpoints of a search
+     * @param checkpointInterval the interval, 0 to write the checkpoint only when the search terminates
+     */
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Check if a search continues from the checkpoint of its instance
+     * @return true if the searches are resumed
+     */
+    public boolean isResume() {
+        return resume;
+    }
+
+    /**
+     * Enable or disable the resume of the searches from their checkpoints
+     * @param resume true to resume the searches
+     */
+    public void setResume(boolean resume) {
+        this.resume = resume;
+    }
+
+    /**
+     * Get the number of seconds between two progress lines of a search
+     * @return the interval, 0 if the progress is not printed
+     */
+    public int getProgressInterval() {
+        return progressInterval;
+    }
+
+    /**
+     * Set the number of seconds between two progress lines of a search
+     * @param progressInterval the interval, 0 to disable the progress lines
+     */
+    public void setProgressInterval(int progressInterval) {
+        this.progressInterval = progressInterval;
+    }
+}
@@ -0,0 +1,221 @@
+package branch_and_bound;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class measures where the time of a run of the branch and bound algorithm goes:
+ * the time spent in each phase, the time each worker spends expanding nodes
+ * (busy) or waiting and exploring the tree between expansions (idle),
+ * and the latency of the lower bound computations
+ * All the times are measured with System.nanoTime()
+ */
+public final class PhaseTimer {
+    /**
+     * Enumeration for the phases of a run
+     */
+    public enum Phase {
+        /**
+         * Reading the instance
+         */
+        PARSE,
+
+        /**
+         * Running the heuristics of the portfolio
+         */
+        HEURISTICS,
+
+        /**
+         * Computing the lower bound of the root
+         */
+        ROOT_BOUND,
+
+        /**
+         * Exploring the tree
+         */
+        SEARCH,
+
+        /**
+         * Writing the checkpoints
+         */
+        CHECKPOINT
+    }
+
+    /**
+     * The time spent in each phase, in nanoseconds
+     */
+    private final Map<Phase, LongAdder> phases = new EnumMap<>(Phase.class);
+
+    /**
+     * The time spent by each worker expanding nodes
+     */
+    private final ThreadLocal<WorkerTime> workerTime = new ThreadLocal<WorkerTime>() {
+        @Override
+        protected WorkerTime initialValue() {
+            WorkerTime time = new WorkerTime(Thread.currentThread().getName());
+            workers.add(time);
+            return time;
+        }
+    };
+
+    /**
+     * The workers which have expanded some nodes
+     */
+    private final ConcurrentLinkedQueue<WorkerTime> workers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The latency of the lower bounds computed simulating the relaxation
+     */
+    private final LatencyHistogram boundLatency = new LatencyHistogram();
+
+    /**
+     * Constructor
+     */
+    PhaseTimer() {
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LongAdder());
+        }
+    }
+
+    /**
+     * Add the time spent in a phase
+     * @param phase the phase
+     * @param nanos the time in nanoseconds
+     */
+    void add(Phase phase, long nanos) {
+        phases.get(phase).add(nanos);
+    }
+
+    /**
+     * Add the time spent in a phase since an instant
+     * @param phase the phase
+     * @param start the instant (System.nanoTime()) when the phase started
+     * @return the current instant
+     */
+    long stop(Phase phase, long start) {
+        long now = System.nanoTime();
+        phases.get(phase).add(now - start);
+        return now;
+    }
+
+    /**
+     * Add the time spent by the current worker expanding a node
+     * @param nanos the time in nanoseconds
+     */
+    void addBusyTime(long nanos) {
+        workerTime.get().busy += nanos;
+    }
+
+    /**
+     * Record the latency of a lower bound computation
+     * @param nanos the latency in nanoseconds
+     */
+    void recordBound(long nanos) {
+        boundLatency.record(nanos);
+    }
+
+    /**
+     * Get the time spent in a phase
+     * @param phase the phase
+     * @return the time in nanoseconds
+     */
+    public long getNanos(Phase phase) {
+        return phases.get(phase).sum();
+    }
+
+    /**
+     * Get the time spent by each worker expanding nodes
+     * It must be read when the search has terminated
+     * @return the busy time in nanoseconds, by name of the worker
+     */
+    public Map<String, Long> getBusyNanos() {
+        Map<String, Long> busy = new TreeMap<>();
+        for (WorkerTime time : workers) {
+            busy.put(time.name, time.busy);
+        }
+        return busy;
+    }
+
+    /**
+     * Get the latency of the lower bounds computed simulating the relaxation
+     * @return the histogram
+     */
+    public LatencyHistogram getBoundLatency() {
+        return boundLatency;
+    }
+
+    /**
+     * Get a string representation of the times
+     * The idle time of a worker is the search time not spent expanding nodes
+     * @param parallelism the number of workers of the pool
+     * @return the string representation
+     */
+    public String toString(int parallelism) {
+        StringBuilder sb = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            sb.append(String.format(Locale.ROOT, "%-11s %10.3f ms%n", phase, getNanos(phase) / 1e6));
+        }
+        long search = getNanos(Phase.SEARCH);
+        Map<String, Long> busy = getBusyNanos();
+        for (Map.Entry<String, Long> worker : busy.entrySet()) {
+            sb.append(String.format(Locale.ROOT, "  %s: busy %.3f ms, idle %.3f ms%n", worker.getKey(),
+                    worker.getValue() / 1e6, Math.max(0, search - worker.getValue()) / 1e6));
+        }
+        for (int i = busy.size(); i < parallelism; i++) {
+            sb.append(String.format(Locale.ROOT, "  (unused worker): idle %.3f ms%n", search / 1e6));
+        }
+        sb.append(String.format(Locale.ROOT, "Lower bound latency: %d computed, mean %.0f ns, p50 <= %d ns, p99 <= %d ns",
+                boundLatency.getCount(), boundLatency.getMean(),
+                boundLatency.getPercentile(50), boundLatency.getPercentile(99)));
+        return sb.toString();
+    }
+
+    /**
+     * Append the times as a JSON object
+     * @param json the JSON text
+     */
+    void appendJson(StringBuilder json) {
+        json.append("{\"phasesNanos\": {");
+        boolean first = true;
+        for (Phase phase : Phase.values()) {
+            if (!first) {
+                json.append(", ");
+            }
+            json.append('"').append(phase).append("\": ").append(getNanos(phase));
+            first = false;
+        }
+        json.append("}, \"busyNanos\": {");
+        List<Map.Entry<String, Long>> busy = new ArrayList<>(getBusyNanos().entrySet());
+        for (int i = 0; i < busy.size(); i++) {
+            if (i > 0) {
+                json.append(", ");
+            }
+            InstanceExporter.appendJsonString(json, busy.get(i).getKey());
+            json.append(": ").append(busy.get(i).getValue());
+        }
+        json.append("}, \"boundLatency\": ");
+        boundLatency.appendJson(json);
+        json.append('}');
+    }
+
+    /**
+     * The time spent by a worker expanding nodes
+     * It is written only by the worker
+     */
+    private static final class WorkerTime {
+
+        private final String name;
+
+        private long busy;
+
+        private WorkerTime(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package branch_and_bound;
+
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class prints a progress line of a running search at a fixed rate:
+ * the nodes expanded (and the rate since the previous line), the pruned nodes,
+ * the size of the global frontier and the best known upper bound
+ * The line is printed by a daemon thread, the workers are never blocked
+ */
+public final class ProgressReporter {
+    /**
+     * The thread which prints the progress lines
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The name of the instance
+     */
+    private final String name;
+
+    /**
+     * The search
+     */
+    private final BranchAndBound bb;
+
+    /**
+     * The stream where the lines are printed
+     */
+    private final PrintStream out;
+
+    /**
+     * The instant (System.nanoTime()) when the reporter has been started
+     */
+    private final long startTime;
+
+    /**
+     * The number of nodes expanded when the previous line has been printed
+     */
+    private long previousExpanded;
+
+    /**
+     * The instant (System.nanoTime()) when the previous line has been printed
+     */
+    private long previousTime;
+
+    /**
+     * Constructor
+     * @param name the name of the instance
+     * @param bb the search
+     * @param out the stream where the lines are printed
+     */
+    private ProgressReporter(String name, BranchAndBound bb, PrintStream out) {
+        this.name = name;
+        this.bb = bb;
+        this.out = out;
+        this.startTime = System.nanoTime();
+        this.previousTime = startTime;
+        this.previousExpanded = bb.getMetrics().getNodesExpanded();
+        this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "progress-reporter");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Start printing the progress of a search
+     * @param name the name of the instance
+     * @param bb the search
+     * @param intervalSeconds the number of seconds between two lines
+     * @param out the stream where the lines are printed
+     * @return the reporter, to be stopped when the search terminates
+     */
+    public static ProgressReporter start(String name, BranchAndBound bb, int intervalSeconds, PrintStream out) {
+        final ProgressReporter reporter = new ProgressReporter(name, bb, out);
+        reporter.executor.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                reporter.report();
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        return reporter;
+    }
+
+    /**
+     * Stop printing the progress
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Print a progress line
+     */
+    private void report() {
+        SearchMetrics metrics = bb.getMetrics();
+        long now = System.nanoTime();
+        long expanded = metrics.getNodesExpanded();
+        double rate = (expanded - previousExpanded) / ((now - previousTime) / 1e9);
+        previousExpanded = expanded;
+        previousTime = now;
+
+        int upperBound = bb.getUpperBound();
+        out.printf("[%s] %.1fs expanded=%d (%.0f/s) created=%d pruned-bound=%d pruned-dominance=%d " +
+                        "leaves=%d frontier=%d incumbents=%d UB=%s%n",
+                name, (now - startTime) / 1e9, expanded, rate, metrics.getNodesCreated(),
+                metrics.getPrunedByBound(), metrics.getPrunedByDominance(), metrics.getLeavesReached(),
+                bb.getFrontierSize(), metrics.getCountIncumbentUpdates(),
+                upperBound == Constants.INFINITY ? "none" : Integer.toString(upperBound));
+    }
+}
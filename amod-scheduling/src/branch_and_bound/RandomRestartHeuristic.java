@@ -0,0 +1,112 @@
+package branch_and_bound;
+
+import java.util.Random;
+
+/**
+ * Random-restart dispatching:
+ * each time the machine becomes free, schedule a job chosen at random
+ * among the jobs whose completion time is at most the earliest completion time
+ * plus the shortest processing time of the jobs not yet scheduled
+ * The construction is repeated several times and the best schedule is kept
+ * The random generator is seeded, so the result is reproducible
+ */
+class RandomRestartHeuristic extends Heuristic {
+    /**
+     * The seed of the random generator
+     */
+    private final long seed;
+
+    /**
+     * The number of schedules built
+     */
+    private final int restarts;
+
+    /**
+     * Constructor
+     * @param seed the seed of the random generator
+     * @param restarts the number of schedules built
+     */
+    RandomRestartHeuristic(long seed, int restarts) {
+        this.seed = seed;
+        this.restarts = restarts;
+    }
+
+    @Override
+    String getName() {
+        return "random restart (" + restarts + " restarts)";
+    }
+
+    @Override
+    Solution schedule(Instance instance) {
+        // Every run has its own generator, so the runs do not share any state
+        Random random = new Random(seed);
+        Solution bestSolution = null;
+        for (int r = 0; r < restarts; r++) {
+            Solution solution = construct(instance, random);
+            if (bestSolution == null ||
+                    solution.sumOfCompletionTimesForScheduledJobs() < bestSolution.sumOfCompletionTimesForScheduledJobs()) {
+                bestSolution = solution;
+            }
+        }
+        return bestSolution;
+    }
+
+    /**
+     * Build a schedule, dispatching the jobs chosen at random
+     * @param instance the instance to be solved
+     * @param random the random generator of the run
+     * @return the schedule
+     */
+    private static Solution construct(Instance instance, Random random) {
+        // The current instant
+        int currentTime = 0;
+
+        Solution solution = new Solution(instance);
+        boolean[] scheduled = new boolean[instance.getNumberOfJobs()];
+        for (int remainingJobs = instance.getNumberOfJobs(); remainingJobs > 0; remainingJobs--) {
+            // Select the next job
+            int jobId = select(instance, scheduled, currentTime, random);
+            scheduled[jobId-1] = true;
+
+            // Schedule the job and update the current instant
+            currentTime = scheduleJob(currentTime, instance, jobId, solution);
+        }
+        return solution;
+    }
+
+    /**
+     * Select the next job to be scheduled
+     *
+     * @param instance the instance to be solved
+     * @param scheduled the flags of the scheduled jobs (index jobId-1)
+     * @param currentTime the instant the machine becomes free
+     * @param random the random generator of the run
+     * @return the id of the selected job
+     */
+    private static int select(Instance instance, boolean[] scheduled, int currentTime, Random random) {
+        // The earliest completion time and the shortest processing time
+        int earliestCompletionTime = Integer.MAX_VALUE;
+        int shortestProcessingTime = Integer.MAX_VALUE;
+        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+            if (!scheduled[jobId-1]) {
+                earliestCompletionTime = Math.min(earliestCompletionTime,
+                        DispatchingHeuristic.earliestCompletionTime(instance, jobId, currentTime));
+                shortestProcessingTime = Math.min(shortestProcessingTime, instance.getProcessingTime(jobId));
+            }
+        }
+
+        // Choose at random among the candidates (reservoir sampling)
+        int threshold = earliestCompletionTime + shortestProcessingTime;
+        int selectedJobId = -1;
+        int candidates = 0;
+        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
+            if (!scheduled[jobId-1] && DispatchingHeuristic.earliestCompletionTime(instance, jobId, currentTime) <= threshold) {
+                candidates++;
+                if (random.nextInt(candidates) == 0) {
+                    selectedJobId = jobId;
+                }
+            }
+        }
+        return selectedJobId;
+    }
+}
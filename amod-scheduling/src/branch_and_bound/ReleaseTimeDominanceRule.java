@@ -0,0 +1,38 @@
+package branch_and_bound;
+
+/**
+ * If releaseTime of job j >= max{ t, releaseTime of job i } + processingTime of job i
+ * for some job i not scheduled, then the job i can be done entirely before the job j is released.
+ * Therefore the subtree rooted in j can be pruned because it does not lead to an optimal solution.
+ * The value t is the time of completion of the sequence of jobs leading to job j.
+ */
+class ReleaseTimeDominanceRule extends DominanceRule {
+
+    @Override
+    String getName() {
+        return "release time";
+    }
+
+    @Override
+    protected boolean dominates(SolveContext context, TreeNode node, int jobId, SrptKernel kernel) {
+        int currentInstant = node.getMakespan();
+        int releaseTimeJ = context.getReleaseTime(jobId);
+        if (releaseTimeJ <= currentInstant) {
+            // No job can be completed before the current instant
+            return false;
+        }
+
+        // Only the jobs released before the job j can be completed before its release
+        for (int jobId2 : context.getJobIdsSortedByReleaseTime()) {
+            int releaseTimeI = context.getReleaseTime(jobId2);
+            if (releaseTimeI >= releaseTimeJ) {
+                break;
+            }
+            if (jobId2 != jobId && !kernel.isScheduled(jobId2) &&
+                    releaseTimeJ >= Math.max(currentInstant, releaseTimeI) + context.getProcessingTime(jobId2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
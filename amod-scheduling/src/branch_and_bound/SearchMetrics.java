@@ -0,0 +1,302 @@
+package branch_and_bound;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class collects the metrics of a run of the branch and bound algorithm
+ *
+ * The counters are striped (LongAdder): every worker updates its own cell,
+ * so counting does not make the workers contend on a shared variable
+ * and no update is lost
+ * The incumbent updates are recorded with the instant they happened,
+ * to see how the upper bound improved over time
+ */
+public final class SearchMetrics {
+    /**
+     * The number of nodes created
+     */
+    private final LongAdder nodesCreated = new LongAdder();
+
+    /**
+     * The number of nodes expanded
+     */
+    private final LongAdder nodesExpanded = new LongAdder();
+
+    /**
+     * The number of nodes pruned because their lower bound is not less than the upper bound
+     */
+    private final LongAdder prunedByBound = new LongAdder();
+
+    /**
+     * The number of nodes pruned by the dominance rules and by the state table
+     */
+    private final LongAdder prunedByDominance = new LongAdder();
+
+    /**
+     * The number of leaves reached, i.e. the nodes whose relaxation is a complete schedule
+     * The search does not go below them
+     */
+    private final LongAdder leavesReached = new LongAdder();
+
+    /**
+     * The number of lower bounds computed simulating the preemptive relaxation
+     */
+    private final LongAdder boundComputations = new LongAdder();
+
+    /**
+     * The number of lower bounds inherited from the relaxation of the parent
+     */
+    private final LongAdder boundsInherited = new LongAdder();
+
+    /**
+     * The number of nodes whose preemptive relaxation is not preemptive
+     */
+    private final LongAdder foundNotPreemptive = new LongAdder();
+
+    /**
+     * The largest size of the global frontier
+     */
+    private volatile int peakFrontierSize = 0;
+
+    /**
+     * The instant (System.nanoTime()) when the metrics started to be collected
+     */
+    private final long startTime = System.nanoTime();
+
+    /**
+     * The incumbent updates, in order of time
+     */
+    private final List<IncumbentUpdate> incumbentUpdates = new ArrayList<>();
+
+    /* Counters */
+
+    /**
+     * Count a node created
+     */
+    void nodeCreated() {
+        nodesCreated.increment();
+    }
+
+    /**
+     * Count a node expanded
+     */
+    void nodeExpanded() {
+        nodesExpanded.increment();
+    }
+
+    /**
+     * Count a node pruned by the upper bound
+     */
+    void prunedByBound() {
+        prunedByBound.increment();
+    }
+
+    /**
+     * Count a node pruned by dominance
+     */
+    void prunedByDominance() {
+        prunedByDominance.increment();
+    }
+
+    /**
+     * Count a leaf reached
+     */
+    void leafReached() {
+        leavesReached.increment();
+    }
+
+    /**
+     * Count a lower bound computed simulating the relaxation
+     */
+    void boundComputed() {
+        boundComputations.increment();
+    }
+
+    /**
+     * Count a lower bound inherited from the parent
+     */
+    void boundInherited() {
+        boundsInherited.increment();
+    }
+
+    /**
+     * Count a non preemptive relaxation
+     */
+    void notPreemptiveFound() {
+        foundNotPreemptive.increment();
+    }
+
+    /**
+     * Record the size of the global frontier
+     * @param size the size of the frontier
+     */
+    void frontierSize(int size) {
+        if (size > peakFrontierSize) {
+            peakFrontierSize = size;
+        }
+    }
+
+    /**
+     * Record a new incumbent
+     * @param upperBound the sum of the completion times of the incumbent
+     * @param source what found the incumbent (e.g. "search", "local-search")
+     */
+    void incumbentUpdated(int upperBound, String source) {
+        IncumbentUpdate update = new IncumbentUpdate(System.nanoTime() - startTime, upperBound, source);
+        synchronized (incumbentUpdates) {
+            incumbentUpdates.add(update);
+        }
+    }
+
+    /**
+     * Add the counters of a previous run on the same instance (e.g. from a checkpoint)
+     * @param expanded the number of nodes expanded
+     * @param prunedDominance the number of nodes pruned by dominance
+     * @param notPreemptive the number of non preemptive relaxations found,
+     *                      each of which is a leaf of the explored tree
+     */
+    void restore(long expanded, long prunedDominance, long notPreemptive) {
+        nodesExpanded.add(expanded);
+        prunedByDominance.add(prunedDominance);
+        foundNotPreemptive.add(notPreemptive);
+        leavesReached.add(notPreemptive);
+    }
+
+    /* Getters */
+
+    /**
+     * Get the number of nodes created
+     * @return the number of nodes created
+     */
+    public long getNodesCreated() {
+        return nodesCreated.sum();
+    }
+
+    /**
+     * Get the number of nodes expanded
+     * @return the number of nodes expanded
+     */
+    public long getNodesExpanded() {
+        return nodesExpanded.sum();
+    }
+
+    /**
+     * Get the number of nodes pruned by the upper bound
+     * @return the number of nodes pruned by the upper bound
+     */
+    public long getPrunedByBound() {
+        return prunedByBound.sum();
+    }
+
+    /**
+     * Get the number of nodes pruned by the dominance rules and by the state table
+     * @return the number of nodes pruned by the dominance rules and by the state table
+     */
+    public long getPrunedByDominance() {
+        return prunedByDominance.sum();
+    }
+
+    /**
+     * Get the number of leaves reached
+     * @return the number of leaves reached
+     */
+    public long getLeavesReached() {
+        return leavesReached.sum();
+    }
+
+    /**
+     * Get the number of lower bounds computed simulating the relaxation
+     * @return the number of lower bounds computed simulating the relaxation
+     */
+    public long getBoundComputations() {
+        return boundComputations.sum();
+    }
+
+    /**
+     * Get the number of lower bounds inherited from the parent
+     * @return the number of lower bounds inherited from the parent
+     */
+    public long getBoundsInherited() {
+        return boundsInherited.sum();
+    }
+
+    /**
+     * Get the number of non preemptive relaxations found
+     * @return the number of non preemptive relaxations found
+     */
+    public long getFoundNotPreemptive() {
+        return foundNotPreemptive.sum();
+    }
+
+    /**
+     * Get the largest size of the global frontier
+     * @return the largest size of the global frontier
+     */
+    public int getPeakFrontierSize() {
+        return peakFrontierSize;
+    }
+
+    /**
+     * Get the number of incumbent updates
+     * @return the number of updates
+     */
+    public int getCountIncumbentUpdates() {
+        synchronized (incumbentUpdates) {
+            return incumbentUpdates.size();
+        }
+    }
+
+    /**
+     * Append the metrics as a JSON object
+     * @param json the JSON text
+     */
+    void appendJson(StringBuilder json) {
+        json.append("{\"nodesCreated\": ").append(getNodesCreated())
+                .append(", \"nodesExpanded\": ").append(getNodesExpanded())
+                .append(", \"prunedByBound\": ").append(getPrunedByBound())
+                .append(", \"prunedByDominance\": ").append(getPrunedByDominance())
+                .append(", \"leavesReached\": ").append(getLeavesReached())
+                .append(", \"boundComputations\": ").append(getBoundComputations())
+                .append(", \"boundsInherited\": ").append(getBoundsInherited())
+                .append(", \"foundNotPreemptive\": ").append(getFoundNotPreemptive())
+                .append(", \"peakFrontierSize\": ").append(getPeakFrontierSize())
+                .append(", \"incumbentUpdates\": [");
+        synchronized (incumbentUpdates) {
+            for (int i = 0; i < incumbentUpdates.size(); i++) {
+                IncumbentUpdate update = incumbentUpdates.get(i);
+                if (i > 0) {
+                    json.append(", ");
+                }
+                json.append("{\"timeMicros\": ").append(update.time / 1000)
+                        .append(", \"upperBound\": ").append(update.upperBound)
+                        .append(", \"source\": ");
+                InstanceExporter.appendJsonString(json, update.source);
+                json.append('}');
+            }
+        }
+        json.append("]}");
+    }
+
+    /**
+     * An improvement of the incumbent
+     */
+    private static final class IncumbentUpdate {
+
+        /**
+         * The time of the update since the start of the run, in nanoseconds
+         */
+        private final long time;
+
+        private final int upperBound;
+
+        private final String source;
+
+        private IncumbentUpdate(long time, int upperBound, String source) {
+            this.time = time;
+            this.upperBound = upperBound;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package branch_and_bound;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class builds a JSON report of the searches of a batch:
+ * for each instance, the result of the search and its metrics
+ */
+public final class SearchReport {
+    /**
+     * The JSON objects of the searches
+     */
+    private final StringBuilder searches = new StringBuilder();
+
+    /**
+     * The number of searches in the report
+     */
+    private int count = 0;
+
+    /**
+     * Add a search to the report
+     * @param instance the instance
+     * @param bb the search
+     * @param result the result of the search
+     */
+    public synchronized void add(Instance instance, BranchAndBound bb, SolverResult result) {
+        if (count > 0) {
+            searches.append(",\n");
+        }
+        searches.append("  {\"instance\": ");
+        InstanceExporter.appendJsonString(searches, instance.getName());
+        searches.append(", \"numberOfJobs\": ").append(instance.getNumberOfJobs())
+                .append(", \"status\": \"").append(result.getStatus()).append('"')
+                .append(", \"upperBound\": ").append(result.getUpperBound())
+                .append(", \"lowerBound\": ").append(result.getLowerBound())
+                .append(", \"gap\": ").append(result.getGap())
+                .append(", \"elapsedNanos\": ").append(result.getElapsedNanos())
+                .append(", \"bestHeuristic\": ");
+        InstanceExporter.appendJsonString(searches, bb.getBestHeuristic());
+        searches.append(", \"localSearchImprovements\": ").append(bb.getCountLocalSearchImprovements())
+                .append(", \"metrics\": ");
+        result.getMetrics().appendJson(searches);
+        searches.append(", \"timing\": ");
+        result.getTimer().appendJson(searches);
+        searches.append('}');
+        count++;
+    }
+
+    /**
+     * Write the report in a file
+     * @param file the file
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void write(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("[\n");
+            writer.append(searches);
+            writer.write(count > 0 ? "\n]\n" : "]\n");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package branch_and_bound;
+
+/**
+ * Enumeration for the strategies used to explore the enumeration tree
+ */
+public enum SearchStrategy {
+    /**
+     * Explore the tree depth first, visiting the children of a node
+     * starting from the one with the smallest lower bound
+     * The memory used is proportional to the depth of the tree
+     */
+    DEPTH_FIRST,
+
+    /**
+     * Keep all the open nodes in a global frontier
+     * and always explore the node with the smallest lower bound
+     * It minimizes the number of explored nodes, but the frontier can grow a lot
+     */
+    BEST_FIRST,
+
+    /**
+     * Explore the tree best first while the frontier is smaller than the frontier limit,
+     * then dive depth first into the selected nodes until the frontier shrinks
+     */
+    HYBRID;
+
+    /**
+     * Get the strategy corresponding to a name (e.g. "best-first")
+     * @param name the name of the strategy
+     * @return the strategy
+     */
+    public static SearchStrategy fromString(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
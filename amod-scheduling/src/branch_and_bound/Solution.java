@@ -7,7 +7,7 @@ public class Solution {
     /**
      * The reference to the instance to be solved
      */
-    private static Instance instance;
+    private final Instance instance;
 
     /**
      * The makespan of the solution
@@ -33,7 +33,7 @@ public class Solution {
      */
     Solution(Instance i) {
         // The instance to be solved
-        instance = i;
+        this.instance = i;
 
         // Initialize the array of the jobs
         jobs = new int[instance.getNumberOfJobs()];
@@ -50,9 +50,10 @@ public class Solution {
      * @param i the instance to be solved
      * @param aSol the starting partial solution
      */
+    @SuppressWarnings("unused")
     Solution(Instance i, Solution aSol) {
         // The instance to be solved
-        instance = i;
+        this.instance = i;
 
         // Initialize the array of the jobs
         jobs = new int[instance.getNumberOfJobs()];
@@ -86,17 +87,18 @@ public class Solution {
         }
 
         // Update the makespan
-        if (startInstant + instance.getJob(jobId).getProcessingTime() > makespan) {
-            makespan = startInstant + instance.getJob(jobId).getProcessingTime();
+        if (startInstant + instance.getProcessingTime(jobId) > makespan) {
+            makespan = startInstant + instance.getProcessingTime(jobId);
         }
 
         // Update the sum of completion times
-        sumOfCompletionTimes += startInstant + instance.getJob(jobId).getProcessingTime();
+        sumOfCompletionTimes += startInstant + instance.getProcessingTime(jobId);
 
         // Add the job to the schedule
         setStartInstantForScheduledJob(jobId, startInstant);
     }
 
+    @SuppressWarnings("unused")
     void processJob(int jobId, int processingTime) {
         if (isScheduled(jobId)) {
             // Cannot process a job already scheduled
@@ -156,7 +158,7 @@ public class Solution {
                 continue;
             }
             int startInstant = getStartInstantForScheduledJob(jobId);
-            int processingTime = instance.getJob(jobId).getProcessingTime();
+            int processingTime = instance.getProcessingTime(jobId);
             completionTime = Integer.toString(startInstant + processingTime);
             instant = Integer.toString(startInstant);
             jobIdStr = Integer.toString(jobId);
@@ -184,6 +186,7 @@ public class Solution {
      * @param jobId the id of the job
      * @return true if the job has been completed, false otherwise
      */
+    @SuppressWarnings("unused")
     boolean isCompletedForNotScheduledJob(int jobId) {
         if (getRemainingTimeForNotScheduledJob(jobId) < 0) {
             // A job cannot execute more than its remaining time
@@ -199,6 +202,7 @@ public class Solution {
      *
      * @return the remaining time
      */
+    @SuppressWarnings("unused")
     int getRemainingTimeForNotScheduledJob(int jobId) {
         if (isScheduled(jobId)) {
             // Job completed and scheduled
@@ -208,7 +212,7 @@ public class Solution {
         }
         // Job not completed
         // Get the remaining time
-        int processingTime = instance.getJob(jobId).getProcessingTime();
+        int processingTime = instance.getProcessingTime(jobId);
         int processedTime = getProcessedTimeForNotScheduledJob(jobId);
         return processingTime - processedTime;
     }
@@ -218,7 +222,6 @@ public class Solution {
      *
      * @return the remaining time
      */
-    @SuppressWarnings("unused")
     int getCompletionTimeForScheduledJob(int jobId) {
         if (!isScheduled(jobId)) {
             // Job not scheduled
@@ -228,7 +231,7 @@ public class Solution {
         // Job scheduled
         // Get the completion time
         int startInstant = getStartInstantForScheduledJob(jobId);
-        int processingTime = instance.getJob(jobId).getProcessingTime();
+        int processingTime = instance.getProcessingTime(jobId);
         return startInstant + processingTime;
     }
 
@@ -276,7 +279,7 @@ public class Solution {
      * @param jobId the id of the job
      * @return the start instant
      */
-    private int getStartInstantForScheduledJob(int jobId) {
+    int getStartInstantForScheduledJob(int jobId) {
         if (!isScheduled(jobId)) {
             System.err.println("Error in getProcessedTimeForNotScheduledJob");
         }
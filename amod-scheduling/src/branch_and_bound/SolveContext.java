@@ -0,0 +1,110 @@
+package branch_and_bound;
+
+/**
+ * This class holds the data of the instance being solved which is read
+ * by the nodes, the kernels and the dominance rules of a single run
+ *
+ * The context is built once per run and never modified afterwards,
+ * so it can be read by all the workers without synchronization
+ * Every run has its own context: several instances can be solved
+ * at the same time in the same process
+ */
+final class SolveContext {
+    /**
+     * The instance to be solved
+     */
+    private final Instance instance;
+
+    /**
+     * The number of jobs of the instance
+     */
+    private final int numberOfJobs;
+
+    /**
+     * The processing time of each job (index jobId-1), shared with the instance
+     */
+    private final int[] processingTimes;
+
+    /**
+     * The release time of each job (index jobId-1), shared with the instance
+     */
+    private final int[] releaseTimes;
+
+    /**
+     * The ids of the jobs sorted by increasing release time
+     */
+    private final int[] jobIdsSortedByReleaseTime;
+
+    /**
+     * Constructor
+     * @param instance the instance to be solved
+     */
+    SolveContext(Instance instance) {
+        this.instance = instance;
+        this.numberOfJobs = instance.getNumberOfJobs();
+        this.processingTimes = instance.getProcessingTimes();
+        this.releaseTimes = instance.getReleaseTimes();
+        this.jobIdsSortedByReleaseTime = instance.getJobIdsSortedByReleaseTime();
+    }
+
+    /**
+     * Get the instance to be solved
+     * @return the instance
+     */
+    Instance getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the number of jobs
+     * @return the number of jobs
+     */
+    int getNumberOfJobs() {
+        return numberOfJobs;
+    }
+
+    /**
+     * Get the processing time of a job
+     * @param jobId the id of the job
+     * @return the processing time
+     */
+    int getProcessingTime(int jobId) {
+        return processingTimes[jobId-1];
+    }
+
+    /**
+     * Get the release time of a job
+     * @param jobId the id of the job
+     * @return the release time
+     */
+    int getReleaseTime(int jobId) {
+        return releaseTimes[jobId-1];
+    }
+
+    /**
+     * Get the processing times of the jobs (index jobId-1)
+     * The array must not be modified
+     * @return the processing times
+     */
+    int[] getProcessingTimes() {
+        return processingTimes;
+    }
+
+    /**
+     * Get the release times of the jobs (index jobId-1)
+     * The array must not be modified
+     * @return the release times
+     */
+    int[] getReleaseTimes() {
+        return releaseTimes;
+    }
+
+    /**
+     * Get the ids of the jobs sorted by release time
+     * The array must not be modified
+     * @return the ids of the jobs
+     */
+    int[] getJobIdsSortedByReleaseTime() {
+        return jobIdsSortedByReleaseTime;
+    }
+}
@@ -0,0 +1,158 @@
+package branch_and_bound;
+
+/**
+ * This class represents the result of a run of the branch and bound algorithm:
+ * the best solution found, the lower bound proven by the search and the status of the run
+ * If the search has been stopped, the lower bound is the smallest lower bound
+ * of the nodes left open, so the gap tells how far from optimal the solution can be
+ */
+public final class SolverResult {
+    /**
+     * The best solution found
+     */
+    private final Solution solution;
+
+    /**
+     * The sum of the completion times of the best solution
+     */
+    private final int upperBound;
+
+    /**
+     * The lower bound proven by the search
+     */
+    private final int lowerBound;
+
+    /**
+     * The status of the run
+     */
+    private final SolverStatus status;
+
+    /**
+     * The metrics of the search
+     */
+    private final SearchMetrics metrics;
+
+    /**
+     * The time spent in each phase of the run
+     */
+    private final PhaseTimer timer;
+
+    /**
+     * The duration of the search, in nanoseconds
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Constructor
+     * @param solution the best solution found
+     * @param upperBound the sum of the completion times of the best solution
+     * @param lowerBound the lower bound proven by the search
+     * @param status the status of the run
+     * @param metrics the metrics of the search
+     * @param timer the time spent in each phase of the run
+     * @param elapsedNanos the duration of the search, in nanoseconds
+     */
+    SolverResult(Solution solution, int upperBound, int lowerBound, SolverStatus status,
+                 SearchMetrics metrics, PhaseTimer timer, long elapsedNanos) {
+        this.solution = solution;
+        this.upperBound = upperBound;
+        this.lowerBound = lowerBound;
+        this.status = status;
+        this.metrics = metrics;
+        this.timer = timer;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get the best solution found
+     * @return the solution
+     */
+    public Solution getSolution() {
+        return solution;
+    }
+
+    /**
+     * Get the sum of the completion times of the best solution
+     * @return the upper bound
+     */
+    public int getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Get the lower bound proven by the search
+     * No solution has a sum of completion times lower than it
+     * @return the lower bound
+     */
+    public int getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Get the relative optimality gap (upper bound - lower bound) / upper bound
+     * @return the gap, 0 if the solution is optimal
+     */
+    public double getGap() {
+        if (upperBound <= lowerBound || upperBound == 0) {
+            return 0;
+        }
+        return (double) (upperBound - lowerBound) / upperBound;
+    }
+
+    /**
+     * Get the status of the run
+     * @return the status
+     */
+    public SolverStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Get the number of nodes expanded
+     * @return the number of nodes
+     */
+    public long getCountExpandedNodes() {
+        return metrics.getNodesExpanded();
+    }
+
+    /**
+     * Get the metrics of the search
+     * @return the metrics
+     */
+    public SearchMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Get the duration of the search
+     * @return the duration, in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedNanos / 1000000;
+    }
+
+    /**
+     * Get the duration of the search
+     * @return the duration, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Get the time spent in each phase of the run
+     * @return the timer
+     */
+    public PhaseTimer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Get a string representation of the result
+     * @return the string representation
+     */
+    public String toString() {
+        return String.format("Status: %s\nUpper bound: %d\nLower bound: %d\nGap: %.4f%%\nExpanded nodes: %d",
+                status, upperBound, lowerBound, getGap() * 100, getCountExpandedNodes());
+    }
+}
@@ -0,0 +1,28 @@
+package branch_and_bound;
+
+/**
+ * Enumeration for the outcomes of a run of the branch and bound algorithm
+ */
+public enum SolverStatus {
+    /**
+     * The whole tree has been explored (or every open node has a lower bound
+     * not less than the upper bound): the best solution is optimal
+     */
+    OPTIMAL,
+
+    /**
+     * The search has been stopped by the time limit
+     */
+    TIME_LIMIT,
+
+    /**
+     * The search has been stopped by the node limit
+     */
+    NODE_LIMIT,
+
+    /**
+     * The search has been stopped from outside,
+     * e.g. because the process is shutting down
+     */
+    INTERRUPTED
+}
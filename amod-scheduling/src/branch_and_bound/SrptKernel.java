@@ -0,0 +1,266 @@
+package branch_and_bound;
+
+import static branch_and_bound.Constants.INFINITY;
+
+/**
+ * This class simulates the preemptive relaxation used to compute the lower bounds:
+ * the jobs not yet scheduled are executed from the makespan of the partial solution
+ * following the shortest remaining processing time (SRPT) rule
+ *
+ * The released jobs are kept in a heap of job ids (see JobHeap)
+ * ordered by remaining processing time
+ * All the buffers are allocated once and reused, so a simulation does not allocate memory
+ * A kernel is not thread safe: every worker thread owns its own kernel
+ */
+final class SrptKernel {
+    /**
+     * The kernel of each thread
+     */
+    private static final ThreadLocal<SrptKernel> KERNELS = new ThreadLocal<SrptKernel>() {
+        @Override
+        protected SrptKernel initialValue() {
+            return new SrptKernel();
+        }
+    };
+
+    /**
+     * The context of the run the kernel is simulating
+     */
+    private SolveContext context;
+
+    /**
+     * The processing time of each job (index jobId-1), shared with the context
+     */
+    private int[] processingTimes;
+
+    /**
+     * The release time of each job (index jobId-1), shared with the context
+     */
+    private int[] releaseTimes;
+
+    /**
+     * The jobs in the partial solution being expanded
+     */
+    private JobSet scheduled;
+
+    /**
+     * The remaining processing time of each released job (index jobId-1)
+     */
+    private int[] remainingTimes;
+
+    /**
+     * The released jobs, the one with the shortest remaining processing time first
+     * (ties broken by id): the keys of the heap are the remaining times
+     */
+    private JobHeap released;
+
+    /**
+     * The jobs completed before the first preemption, in order of completion
+     */
+    private int[] relaxedSequence;
+
+    /**
+     * The number of jobs in the relaxed sequence
+     */
+    private int relaxedSequenceLength;
+
+    /**
+     * The sum of the completion times of the simulated jobs
+     */
+    private int sumOfCompletionTimes;
+
+    /**
+     * True, if the simulated schedule is preemptive
+     */
+    private boolean isPreemptive;
+
+    /**
+     * Constructor
+     */
+    private SrptKernel() {
+        this.context = null;
+    }
+
+    /**
+     * Get the kernel of the current thread, ready to simulate the instance of a run
+     * A worker can alternate between the runs sharing the pool:
+     * switching run only replaces the arrays of the context, nothing is copied
+     * @param context the context of the run
+     * @return the kernel
+     */
+    static SrptKernel forCurrentThread(SolveContext context) {
+        SrptKernel kernel = KERNELS.get();
+        if (kernel.context != context) {
+            kernel.load(context);
+        }
+        return kernel;
+    }
+
+    /**
+     * Use the processing and release times of a run
+     * and make the buffers large enough for its jobs
+     * @param context the context of the run
+     */
+    private void load(SolveContext context) {
+        int numberOfJobs = context.getNumberOfJobs();
+        if (scheduled == null || scheduled.getNumberOfJobs() != numberOfJobs) {
+            scheduled = new JobSet(numberOfJobs);
+        }
+        if (remainingTimes == null || remainingTimes.length < numberOfJobs) {
+            remainingTimes = new int[numberOfJobs];
+            released = new JobHeap(remainingTimes);
+            relaxedSequence = new int[numberOfJobs];
+        }
+        processingTimes = context.getProcessingTimes();
+        releaseTimes = context.getReleaseTimes();
+        this.context = context;
+    }
+
+    /**
+     * Load the jobs in the partial solution of a node
+     * @param node the node
+     */
+    void loadScheduledJobs(TreeNode node) {
+        scheduled.clear();
+        node.markScheduledJobs(scheduled);
+    }
+
+    /**
+     * Check if the job is in the loaded partial solution
+     * @param jobId the id of the job
+     * @return true if the job is scheduled, false otherwise
+     */
+    boolean isScheduled(int jobId) {
+        return scheduled.contains(jobId);
+    }
+
+    /**
+     * Get the jobs in the loaded partial solution
+     * The set belongs to the kernel: it can be changed only temporarily,
+     * restoring it before the kernel is used again
+     * @return the set of the scheduled jobs
+     */
+    JobSet getScheduledJobs() {
+        return scheduled;
+    }
+
+    /**
+     * Simulate the preemptive schedule of the jobs not in the loaded partial solution
+     *
+     * @param appendedJobId the id of a job to be considered as scheduled,
+     *                      or -1 if the loaded partial solution is complete
+     * @param makespan the makespan of the partial solution
+     * @param jobsSortedByReleaseTime the ids of all the jobs, sorted by release time
+     * @param releasedJobsCount the number of jobs in jobsSortedByReleaseTime
+     *                          released before the makespan of the partial solution
+     */
+    void simulate(int appendedJobId, int makespan, int[] jobsSortedByReleaseTime, int releasedJobsCount) {
+        int numberOfJobs = jobsSortedByReleaseTime.length;
+        released.clear();
+        relaxedSequenceLength = 0;
+        sumOfCompletionTimes = 0;
+        isPreemptive = false;
+
+        // The jobs released before the makespan are available immediately
+        for (int i = 0; i < releasedJobsCount; i++) {
+            int jobId = jobsSortedByReleaseTime[i];
+            if (!scheduled.contains(jobId) && jobId != appendedJobId) {
+                release(jobId);
+            }
+        }
+
+        // The following jobs are neither scheduled nor released
+        int nextJobIndex = releasedJobsCount;
+        int currentInstant = makespan;
+        int preemptedJobId = -1;
+        while (nextJobIndex < numberOfJobs || !released.isEmpty()) {
+            // Release all the jobs with release time not greater than the current instant
+            while (nextJobIndex < numberOfJobs && releaseTimes[jobsSortedByReleaseTime[nextJobIndex]-1] <= currentInstant) {
+                release(jobsSortedByReleaseTime[nextJobIndex++]);
+            }
+            // Get next release instant
+            int nextReleaseTime = nextJobIndex < numberOfJobs ?
+                    releaseTimes[jobsSortedByReleaseTime[nextJobIndex]-1] : INFINITY;
+
+            // Schedule the released jobs with preemption until the next release
+            while (!released.isEmpty()) {
+                int jobId = released.peek();
+                if (preemptedJobId != -1 && jobId != preemptedJobId) {
+                    // A job has been interrupted: the schedule is preemptive
+                    isPreemptive = true;
+                }
+                int remainingTime = remainingTimes[jobId-1];
+                if (currentInstant + remainingTime <= nextReleaseTime) {
+                    // The job completes before the release of the next job
+                    currentInstant += remainingTime;
+                    sumOfCompletionTimes += currentInstant;
+                    released.poll();
+                    preemptedJobId = -1;
+                    if (!isPreemptive) {
+                        // No preemption so far: the job ran without interruption
+                        relaxedSequence[relaxedSequenceLength++] = jobId;
+                    }
+                } else {
+                    // The job is interrupted by a new release
+                    // Its remaining time decreases, so it stays on top of the heap
+                    remainingTimes[jobId-1] = remainingTime - (nextReleaseTime - currentInstant);
+                    preemptedJobId = jobId;
+                    break;
+                }
+            }
+            // Update the current instant
+            currentInstant = nextReleaseTime;
+        }
+    }
+
+    /**
+     * Add a job to the heap of the released jobs
+     * @param jobId the id of the job
+     */
+    private void release(int jobId) {
+        remainingTimes[jobId-1] = processingTimes[jobId-1];
+        released.add(jobId);
+    }
+
+    /* Getters */
+
+    /**
+     * Get the sum of the completion times of the simulated jobs
+     * @return the sum of the completion times
+     */
+    int getSumOfCompletionTimes() {
+        return sumOfCompletionTimes;
+    }
+
+    /**
+     * Check if the simulated schedule is preemptive
+     * @return true if the schedule is preemptive, false otherwise
+     */
+    boolean isPreemptive() {
+        return isPreemptive;
+    }
+
+    /**
+     * Get the number of jobs completed before the first preemption
+     * If the schedule is not preemptive, it is the number of simulated jobs
+     * @return the length of the relaxed sequence
+     */
+    int getRelaxedSequenceLength() {
+        return relaxedSequenceLength;
+    }
+
+    /**
+     * Copy the jobs completed before the first preemption at the start of a buffer
+     * If the schedule is not preemptive, they are all the simulated jobs
+     * A new buffer is allocated only if the supplied one cannot hold all the jobs of the instance
+     * @param buffer the buffer, or null
+     * @return the buffer holding the relaxed sequence
+     */
+    int[] copyRelaxedSequence(int[] buffer) {
+        if (buffer == null || buffer.length < context.getNumberOfJobs()) {
+            buffer = new int[context.getNumberOfJobs()];
+        }
+        System.arraycopy(relaxedSequence, 0, buffer, 0, relaxedSequenceLength);
+        return buffer;
+    }
+}
@@ -0,0 +1,159 @@
+package branch_and_bound;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static branch_and_bound.Constants.PARETO_SET_CAPACITY;
+
+/**
+ * This class remembers the partial solutions met during the search
+ * Two partial solutions which schedule the same set of jobs in different orders
+ * can be compared: if the makespan and the sum of the completion times of the first one
+ * are both not greater than the ones of the second one, every completion of the second one
+ * is not better than the same completion of the first one, so the second one is dominated
+ *
+ * For each set of scheduled jobs, the table stores the Pareto set of the pairs
+ * (makespan, sum of the completion times) met so far
+ * The table is shared by all the workers and holds at most a fixed number of sets of jobs:
+ * when it is full, the new sets are not remembered anymore
+ * In case of a tie, the first partial solution met wins
+ */
+final class StateTable {
+    /**
+     * The Pareto set of each set of scheduled jobs
+     */
+    private final ConcurrentHashMap<JobSet, ParetoSet> states;
+
+    /**
+     * The maximum number of sets of jobs in the table
+     */
+    private final int capacity;
+
+    /**
+     * The number of sets of jobs in the table
+     */
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * The number of partial solutions pruned by the table
+     */
+    private final LongAdder countPruned = new LongAdder();
+
+    /**
+     * Constructor
+     * @param capacity the maximum number of sets of jobs in the table
+     */
+    StateTable(int capacity) {
+        this.capacity = capacity;
+        this.states = new ConcurrentHashMap<>(Math.min(capacity, 1 << 16));
+    }
+
+    /**
+     * Check if a partial solution is dominated by a partial solution already met
+     * If it is not, remember it
+     *
+     * @param scheduledJobs the set of the scheduled jobs, copied if it has to be remembered
+     * @param makespan the makespan of the partial solution
+     * @param sumOfCompletionTimes the sum of the completion times of the partial solution
+     * @return true if the partial solution is dominated
+     */
+    boolean isDominated(JobSet scheduledJobs, int makespan, int sumOfCompletionTimes) {
+        ParetoSet paretoSet = states.get(scheduledJobs);
+        if (paretoSet == null) {
+            if (size.get() >= capacity) {
+                // The table is full
+                return false;
+            }
+            // The set of jobs is met for the first time
+            ParetoSet newParetoSet = new ParetoSet(makespan, sumOfCompletionTimes);
+            paretoSet = states.putIfAbsent(scheduledJobs.copy(), newParetoSet);
+            if (paretoSet == null) {
+                size.incrementAndGet();
+                return false;
+            }
+            // Another worker has added the set of jobs in the meantime
+        }
+        if (paretoSet.dominatesOrAdd(makespan, sumOfCompletionTimes)) {
+            countPruned.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of partial solutions pruned by the table
+     * @return the number of pruned partial solutions
+     */
+    long getCountPruned() {
+        return countPruned.sum();
+    }
+
+    /**
+     * Get the number of sets of jobs in the table
+     * @return the number of sets of jobs
+     */
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * The pairs (makespan, sum of the completion times) not dominated
+     * among the partial solutions met for a set of jobs
+     */
+    private static final class ParetoSet {
+        /**
+         * The makespan of each pair
+         */
+        private final int[] makespans = new int[PARETO_SET_CAPACITY];
+
+        /**
+         * The sum of the completion times of each pair
+         */
+        private final int[] sums = new int[PARETO_SET_CAPACITY];
+
+        /**
+         * The number of pairs
+         */
+        private int size;
+
+        private ParetoSet(int makespan, int sumOfCompletionTimes) {
+            makespans[0] = makespan;
+            sums[0] = sumOfCompletionTimes;
+            size = 1;
+        }
+
+        /**
+         * Check if a pair is dominated by a pair of the set
+         * If it is not, add it to the set and remove the pairs it dominates
+         *
+         * @param makespan the makespan
+         * @param sumOfCompletionTimes the sum of the completion times
+         * @return true if the pair is dominated
+         */
+        private synchronized boolean dominatesOrAdd(int makespan, int sumOfCompletionTimes) {
+            for (int i = 0; i < size; i++) {
+                if (makespans[i] <= makespan && sums[i] <= sumOfCompletionTimes) {
+                    return true;
+                }
+            }
+            // Remove the pairs dominated by the new one
+            int newSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (makespan > makespans[i] || sumOfCompletionTimes > sums[i]) {
+                    makespans[newSize] = makespans[i];
+                    sums[newSize] = sums[i];
+                    newSize++;
+                }
+            }
+            size = newSize;
+            // Add the new pair, if there is room for it
+            if (size < PARETO_SET_CAPACITY) {
+                makespans[size] = makespan;
+                sums[size] = sumOfCompletionTimes;
+                size++;
+            }
+            return false;
+        }
+    }
+}
@@ -3,10 +3,12 @@ package branch_and_bound;
 /**
  * This class contains some methods which allow
  * to measure the performance of the B&B algorithm
+ * The time is measured with System.nanoTime(), which is monotonic
+ * and has a resolution fine enough for the instances solved in a few milliseconds
  */
 public class Stopwatch {
     /**
-     * The start instant of the measurement
+     * The start instant of the measurement (System.nanoTime())
      */
     private long start;
 
@@ -34,25 +36,35 @@ public class Stopwatch {
      * Start the stopwatch
      */
     public void start() {
-        setStart(System.currentTimeMillis());
+        setStart(System.nanoTime());
     }
 
     /** Get the elapsed time
-     * @return the elapsed time
+     * @return the elapsed time in nanoseconds
      */
-    private double getElapsedTime() {
-        return System.currentTimeMillis() - getStart();
+    public long getElapsedNanos() {
+        return System.nanoTime() - getStart();
     }
 
     public String prettyPrintElapsedTime() {
-        double elapsed = getElapsedTime();
-        int seconds = (int) Math.floor(elapsed / 1000);
-        int milliseconds = (int) elapsed % 1000;
-        int minutes = (int) Math.floor((double)seconds / 60);
+        return prettyPrint(getElapsedNanos());
+    }
+
+    /**
+     * Format a time
+     * @param elapsedNanos the time in nanoseconds
+     * @return the formatted time
+     */
+    public static String prettyPrint(long elapsedNanos) {
+        long elapsed = elapsedNanos / 1000000;
+        int seconds = (int) (elapsed / 1000);
+        int milliseconds = (int) (elapsed % 1000);
+        int minutes = seconds / 60;
         seconds = seconds % 60;
-        int hours = (int) Math.floor((double)minutes / 60);
+        int hours = minutes / 60;
         minutes = minutes % 60;
 
-        return "Time in milliseconds: " + elapsed + "\nElapsed: " + hours + ":" + minutes + ":" + seconds + ":" + milliseconds;
+        return String.format("Time in milliseconds: %.3f", elapsedNanos / 1e6) +
+                "\nElapsed: " + hours + ":" + minutes + ":" + seconds + ":" + milliseconds;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package branch_and_bound;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class reads the instances of a text file written by InstanceExporter (text format):
+ * a header line "********* Instance name *********", the number of jobs,
+ * the minimum and the maximum processing time, and a table with a row
+ * "| id | processing time | release time |" for each job
+ * A file can contain several instances, which are read one at a time
+ */
+public class TextInstanceReader implements InstanceSource {
+    /**
+     * The reader of the file
+     */
+    private final BufferedReader reader;
+
+    /**
+     * The last line read and not yet parsed
+     */
+    private String pendingLine;
+
+    /**
+     * Open a text file
+     * @param filename the name of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public TextInstanceReader(String filename) throws IOException {
+        reader = Files.newBufferedReader(Paths.get(filename), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get an iterator over the instances, in the order of the file
+     * The iterator can be used only once
+     * @return the iterator
+     */
+    @Override
+    public Iterator<Instance> iterator() {
+        return new Iterator<Instance>() {
+            /**
+             * The next instance, null if it has not been read yet
+             */
+            private Instance next;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (next == null && findHeader()) {
+                        next = readInstance();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return next != null;
+            }
+
+            @Override
+            public Instance next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Instance instance = next;
+                next = null;
+                return instance;
+            }
+        };
+    }
+
+    /**
+     * Close the file
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Skip the lines until the header of the next instance
+     * @return true if a header has been found, false at the end of the file
+     * @throws IOException if the file cannot be read
+     */
+    private boolean findHeader() throws IOException {
+        String line = pendingLine != null ? pendingLine : reader.readLine();
+        pendingLine = null;
+        while (line != null && !isHeader(line)) {
+            line = reader.readLine();
+        }
+        pendingLine = line;
+        return line != null;
+    }
+
+    /**
+     * Read the instance whose header is the pending line
+     * The lines are translated into the cells of a sheet and handed to an InstanceParser
+     * @return the instance, or null if the instance is not complete
+     * @throws IOException if the file cannot be read
+     */
+    private Instance readInstance() throws IOException {
+        String header = pendingLine.replace("*", "").trim();
+        InstanceParser instanceParser = new InstanceParser(header.substring("Instance".length()).trim());
+        pendingLine = null;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (isHeader(line)) {
+                // The next instance begins
+                pendingLine = line;
+                break;
+            }
+            line = line.trim();
+            if (line.startsWith("Number of jobs:")) {
+                instanceParser.parseString("n =");
+                instanceParser.parseNumber(parseValue(line));
+            } else if (line.startsWith("Min processing time:")) {
+                instanceParser.parseString("pmin");
+                instanceParser.parseNumber(parseValue(line));
+            } else if (line.startsWith("Max processing time:")) {
+                instanceParser.parseString("pmax");
+                instanceParser.parseNumber(parseValue(line));
+            } else if (line.startsWith("| #")) {
+                // Table header
+                instanceParser.parseString("release t");
+            } else if (line.startsWith("|") && !line.startsWith("|=")) {
+                // A row of the table: id, processing time and release time
+                String[] cells = line.substring(1).split("\\|");
+                for (String cell : cells) {
+                    cell = cell.trim();
+                    if (!cell.isEmpty()) {
+                        instanceParser.parseNumber(Integer.parseInt(cell));
+                    }
+                }
+            }
+        }
+        return instanceParser.getInstance();
+    }
+
+    /**
+     * Check if a line is the header of an instance
+     * @param line the line
+     * @return true if the line is a header
+     */
+    private static boolean isHeader(String line) {
+        return line.startsWith("*") && line.contains("Instance");
+    }
+
+    /**
+     * Parse the value of a line "description: value"
+     * @param line the line
+     * @return the value
+     */
+    private static int parseValue(String line) {
+        return Integer.parseInt(line.substring(line.indexOf(':') + 1).trim());
+    }
+}
@@ -1,23 +1,42 @@
 package branch_and_bound;
 
-import java.util.*;
-
-import static branch_and_bound.Constants.INFINITY;
-
 /**
  * This class represents a node in the enumeration tree
+ *
+ * The partial solution associated to the node is not copied in every node:
+ * a node only stores a reference to its parent and the job appended to the
+ * partial solution of the parent, together with the makespan and the sum of
+ * the completion times of its partial solution
+ * The whole partial solution can be rebuilt walking the path to the root
  */
 public class TreeNode {
     /**
-     * The reference to the instance to be solved
+     * The context of the run the node belongs to
+     * It is shared by all the nodes of the tree
      */
-    private static Instance instance;
+    private SolveContext context;
 
     /**
-     * The partial solution associated to the tree node
-     * It corresponds to the path from the tree root to the tree node
+     * The parent of the node, null for the root
+     */
+    private TreeNode parent;
+
+    /**
+     * The id of the job appended to the partial solution of the parent
+     * It is the last job of the partial solution associated to the node
      */
-    private Solution partialSolution;
+    private int jobId;
+
+    /**
+     * The makespan of the partial solution
+     * (i.e. the completion time of the last job in the schedule)
+     */
+    private int makespan;
+
+    /**
+     * The sum of the completion times of the jobs in the partial solution
+     */
+    private int sumOfCompletionTimes;
 
     /**
      * The lower bound associated to the node
@@ -37,71 +56,178 @@ public class TreeNode {
     private int k;
 
     /**
-     * Non preemptive schedule
+     * The number of jobs, in the order given by the release time,
+     * which are released before the makespan of the partial solution
+     * The scheduled jobs are all among them
+     */
+    private int releasedJobsCount;
+
+    /**
+     * The jobs completed by the preemptive relaxation of the node
+     * before the first preemption, in order of completion
+     * Each of them runs without interruption from its start to its completion
+     * The array is shared with the descendants of the node
+     */
+    private int[] relaxedSequence;
+
+    /**
+     * The array owned by the node, which holds its relaxed sequence when it is simulated
+     * It survives the recycling of the node, so that a pooled node does not allocate it again
+     * It is overwritten only once the node is initialized again, when its subtree is explored
+     */
+    private int[] relaxedSequenceBuffer;
+
+    /**
+     * The position of the first job of the relaxed sequence of this node
      */
-    private int[] schedule;
+    private int relaxedSequenceStart;
 
     /**
-     * Constructor for tree node
+     * The position after the last job of the relaxed sequence of this node
+     */
+    private int relaxedSequenceEnd;
+
+    /**
+     * Constructor for the root of the tree
+     * The partial solution of the root is empty
      *
-     * @param i the instance to be solved
-     * @param k the level of the node in the tree
+     * @param context the context of the run
      */
-    TreeNode(Instance i, int k) {
+    TreeNode(SolveContext context) {
         // The instance to be solved
-        instance = i;
+        this.context = context;
+        // The root has no parent
+        parent = null;
+        jobId = -1;
+        // The partial solution is empty
+        makespan = 0;
+        sumOfCompletionTimes = 0;
         // Lowerbound for the current tree node
         lowerBound = -1;
         // Set the level of the node in the tree
-        this.k = k;
-        // Set the partial solution
-        partialSolution = new Solution(instance);
+        this.k = 0;
         // Set the preemptive flag
         isPreemptive = true;
     }
 
     /**
-     * Constructor for tree node
-     *
-     * @param i the instance to be solved
-     * @param sol starting partial solution
-     * @param k the level of the node in the tree
+     * Constructor for a node to be initialized with initChild()
+     * It is used by the node pool
      */
-    TreeNode(Instance i, Solution sol, int k) {
-        // The instance to be solved
-        instance = i;
-        // Lower bound for the current tree node
+    TreeNode() {
         lowerBound = -1;
+    }
+
+    /**
+     * Initialize the node as a child of a node
+     * The partial solution of the node is the partial solution of the parent
+     * followed by the job, scheduled at the supplied instant
+     *
+     * @param parent the parent of the node
+     * @param jobId the id of the job appended to the partial solution of the parent
+     * @param startInstant the start instant of the job
+     */
+    void initChild(TreeNode parent, int jobId, int startInstant) {
+        this.context = parent.context;
+        this.parent = parent;
+        this.jobId = jobId;
         // Set the level of the node in the tree
-        this.k = k;
-        // Set the partial solution
-        partialSolution = new Solution(instance, sol);
+        this.k = parent.k + 1;
+        // Schedule the new job
+        int completionTime = startInstant + context.getProcessingTime(jobId);
+        this.makespan = completionTime;
+        this.sumOfCompletionTimes = parent.sumOfCompletionTimes + completionTime;
+        // Lower bound for the current tree node
+        this.lowerBound = -1;
         // Set the preemptive flag
-        isPreemptive = false;
+        this.isPreemptive = false;
+        // The jobs released before the makespan of the parent
+        // are also released before the makespan of this node
+        this.releasedJobsCount = parent.releasedJobsCount;
+        this.relaxedSequence = null;
+        this.relaxedSequenceStart = 0;
+        this.relaxedSequenceEnd = 0;
     }
 
     /**
-     * Compare two jobs considering the processing time
+     * Drop the references held by the node, before recycling it
+     * The buffer of the relaxed sequence is kept for the next use of the node
      */
-    class MinProcessingTimeFirst implements Comparator<Integer> {
+    void clear() {
+        context = null;
+        parent = null;
+        relaxedSequence = null;
+    }
 
-        @Override
-        public int compare(Integer j1, Integer j2) {
-            return Integer.compare(
-                    getPartialSolution().getRemainingTimeForNotScheduledJob(j1),
-                    getPartialSolution().getRemainingTimeForNotScheduledJob(j2)
-            );
+    /**
+     * Drop the state needed only to compute the lower bounds of the children
+     * It is called once the node has been expanded
+     */
+    void clearRelaxation() {
+        relaxedSequence = null;
+        relaxedSequenceStart = 0;
+        relaxedSequenceEnd = 0;
+    }
+
+    /**
+     * Add the jobs of the partial solution to a set
+     * @param scheduled the set of jobs, empty
+     */
+    void markScheduledJobs(JobSet scheduled) {
+        for (TreeNode node = this; node.parent != null; node = node.parent) {
+            scheduled.add(node.jobId);
+        }
+    }
+
+    /**
+     * Get the jobs of the partial solution, in order of execution
+     * @return the ids of the jobs
+     */
+    int[] getJobSequence() {
+        int[] sequence = new int[k];
+        for (TreeNode node = this; node.parent != null; node = node.parent) {
+            sequence[node.k-1] = node.jobId;
         }
+        return sequence;
     }
 
     /**
-     * Compare two jobs considering the release time
+     * Compute the lower bound for this tree node starting from the state of its parent
+     * If the preemptive relaxation of the parent starts by running the new job
+     * without interruption, the relaxation of this node is the rest of the relaxation
+     * of the parent: the lower bound is inherited and nothing has to be simulated
+     * Otherwise, only the jobs not yet scheduled are simulated
+     *
+     * @param kernel the kernel of the current thread, loaded with the scheduled jobs of the parent
+     * @return true if the relaxation has been simulated, false if the lower bound has been inherited
      */
-    class MinReleaseTimeFirst implements Comparator<Integer> {
+    boolean calculateLowerBound(SrptKernel kernel) {
+        if (parent.relaxedSequence != null &&
+                parent.relaxedSequenceStart < parent.relaxedSequenceEnd &&
+                parent.relaxedSequence[parent.relaxedSequenceStart] == jobId) {
+            // The relaxation of the parent schedules the job first, without preemption
+            updateReleasedJobsCount();
+            setLowerBound(parent.getLowerBound());
+            isPreemptive = parent.isPreemptive;
+            // Share the rest of the relaxed sequence
+            relaxedSequence = parent.relaxedSequence;
+            relaxedSequenceStart = parent.relaxedSequenceStart + 1;
+            relaxedSequenceEnd = parent.relaxedSequenceEnd;
+            return false;
+        }
 
-        @Override
-        public int compare(Integer j1, Integer j2) {
-            return Integer.compare(instance.getJob(j1).getReleaseTime(), instance.getJob(j2).getReleaseTime());
+        calculateLowerBound(kernel, jobId);
+        return true;
+    }
+
+    /**
+     * Update the number of jobs released before the makespan of the partial solution
+     */
+    private void updateReleasedJobsCount() {
+        int[] jobsSortedByReleaseTime = context.getJobIdsSortedByReleaseTime();
+        while (releasedJobsCount < jobsSortedByReleaseTime.length &&
+                context.getReleaseTime(jobsSortedByReleaseTime[releasedJobsCount]) <= makespan) {
+            releasedJobsCount++;
         }
     }
 
@@ -110,102 +236,94 @@ public class TreeNode {
      * The partial solution is a non-preemptive schedule
      * we schedule the remaining jobs using preemption
      * This is a relaxation of the original problem and represents a lower bound for the instance
+     *
+     * @param kernel the kernel of the current thread, loaded with the scheduled jobs
+     * @param appendedJobId the id of a job scheduled in this node but not marked in the kernel,
+     *                      or -1 if the kernel marks all the scheduled jobs
      */
-    void calculateLowerBound() {
-        int lowerBound = 0;
+    void calculateLowerBound(SrptKernel kernel, int appendedJobId) {
+        // The jobs after the first releasedJobsCount ones, in the order given by the release time,
+        // are not scheduled and not yet released
+        updateReleasedJobsCount();
 
-        // Order not released jobs by increasing release time
-        PriorityQueue<Integer> notReleasedJobs = new PriorityQueue<>(instance.getNumberOfJobs()-k, new MinReleaseTimeFirst());
-        for (int jobId = 1; jobId <= instance.getNumberOfJobs(); jobId++) {
-            if (!getPartialSolution().isScheduled(jobId)) {
-                notReleasedJobs.add(jobId);
-            }
-        }
+        // Simulate the preemptive schedule of the remaining jobs
+        kernel.simulate(appendedJobId, makespan, context.getJobIdsSortedByReleaseTime(), releasedJobsCount);
 
-        // Order released jobs by increasing processing time
-        PriorityQueue<Integer> releasedJobs = new PriorityQueue<>(instance.getNumberOfJobs()-k, new MinProcessingTimeFirst());
-
-        // Update lower bound
-        lowerBound += getPartialSolution().sumOfCompletionTimesForScheduledJobs();
-
-        // Get the completion time of the partial instant
-        // Starting from this instant we schedule the remaining jobs
-        int currentInstant = getPartialSolution().makeSpan();
-
-        // Build schedule if is non preemptive
-        int[] schedule = new int[instance.getNumberOfJobs()];
-
-        int preemptedJobId = -1;
-        int nextReleaseTime = notReleasedJobs.peek() != null ? instance.getJob(notReleasedJobs.peek()).getReleaseTime() : INFINITY;
-        while (!notReleasedJobs.isEmpty() || !releasedJobs.isEmpty()) {
-            do {
-                // Get all scheduled jobs
-                if (nextReleaseTime <= currentInstant) {
-                    int jobId = notReleasedJobs.poll();
-                    releasedJobs.add(jobId);
-                }
-                // Get next release instant
-                nextReleaseTime = notReleasedJobs.peek() != null ? instance.getJob(notReleasedJobs.peek()).getReleaseTime() : INFINITY;
-            } while (!notReleasedJobs.isEmpty() && nextReleaseTime <= currentInstant);
-
-            // Schedule all released jobs with preemption
-            int processingTime;
-            while (releasedJobs.size() > 0) {
-                int jobId = releasedJobs.peek();
-                if (preemptedJobId != -1 && jobId != preemptedJobId) {
-                    // A job has been interrupted: the schedule is not preemptive
-                    isPreemptive = true;
-                }
-                if (!isPreemptive && jobId != preemptedJobId) {
-                    schedule[jobId-1] = currentInstant+1;
-                }
-                if (currentInstant + getPartialSolution().getRemainingTimeForNotScheduledJob(jobId) <= nextReleaseTime) {
-                    // The job complete before the release of the next job, execute the whole job...
-                    processingTime = getPartialSolution().getRemainingTimeForNotScheduledJob(jobId);
-                    getPartialSolution().processJob(jobId, processingTime);
-                    if (getPartialSolution().isCompletedForNotScheduledJob(jobId)) {
-                        lowerBound += currentInstant + processingTime;
-                        //...and remove from the released jobs
-                        releasedJobs.poll();
-                        preemptedJobId = -1;
-                    } else {
-                        System.err.println("Inconsistent completion time");
-                        System.exit(-1);
-                    }
-                    // Update the current instant
-                    currentInstant += processingTime;
-                } else {
-                    // The job is interrupted by a new release
-                    preemptedJobId = jobId;
-                    processingTime = nextReleaseTime - currentInstant;
-                    getPartialSolution().processJob(jobId, processingTime);
-                    if (getPartialSolution().isCompletedForNotScheduledJob(jobId)) {
-                        lowerBound += currentInstant + processingTime;
-                        // If he job has been completed, remove from the released jobs
-                        releasedJobs.poll();
-                        preemptedJobId = -1;
-                    }
-                    break;
-                }
-            }
-            // Update the current instant
-            currentInstant = nextReleaseTime;
+        // Update the lower bound for the tree node
+        setLowerBound(sumOfCompletionTimes + kernel.getSumOfCompletionTimes());
+        isPreemptive = kernel.isPreemptive();
+
+        // Keep the jobs completed before the first preemption for the children
+        // If the schedule is not preemptive, they are all the remaining jobs
+        int length = kernel.getRelaxedSequenceLength();
+        if (length > 0) {
+            relaxedSequenceBuffer = kernel.copyRelaxedSequence(relaxedSequenceBuffer);
+            relaxedSequence = relaxedSequenceBuffer;
+        } else {
+            relaxedSequence = null;
         }
+        relaxedSequenceStart = 0;
+        relaxedSequenceEnd = length;
+    }
 
-        // Update the lower bound for the tree node
-        setLowerBound(lowerBound);
+    /**
+     * Build the partial solution associated to the tree node
+     * It corresponds to the path from the tree root to the tree node
+     * @return the partial solution
+     */
+    Solution toSolution() {
+        Solution solution = new Solution(context.getInstance());
+        scheduleJobs(solution, this);
+        return solution;
+    }
 
-        if (!isPreemptive) {
-            this.schedule = schedule;
+    /**
+     * Schedule the jobs on the path from the root to a node
+     * @param solution the solution
+     * @param node the last node of the path
+     */
+    private static void scheduleJobs(Solution solution, TreeNode node) {
+        // Collect the path, then schedule the jobs starting from the root
+        TreeNode[] path = new TreeNode[node.k];
+        for (TreeNode n = node; n.parent != null; n = n.parent) {
+            path[n.k-1] = n;
+        }
+        for (TreeNode n : path) {
+            int startInstant = n.makespan - n.context.getProcessingTime(n.jobId);
+            solution.processAndScheduleJob(n.jobId, startInstant);
         }
     }
 
     /**
-     * Get the partial solution associated to the tree node
-     * @return the partial solution
+     * Get the makespan of the partial solution
+     * @return the makespan
+     */
+    int getMakespan() {
+        return makespan;
+    }
+
+    /**
+     * Get the sum of the completion times of the partial solution
+     * @return the sum of the completion times
+     */
+    int getSumOfCompletionTimes() {
+        return sumOfCompletionTimes;
+    }
+
+    /**
+     * Get the id of the last job of the partial solution
+     * @return the id of the job, -1 for the root
+     */
+    int getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Get the parent of the node
+     * @return the parent, null for the root
      */
-    Solution getPartialSolution() {
-        return partialSolution;
+    TreeNode getParent() {
+        return parent;
     }
 
     /**
@@ -250,7 +368,7 @@ public class TreeNode {
         String result = "";
 
         result += "\n\nLowerBound: " + getLowerBound() + "\n";
-        result += getPartialSolution();
+        result += toSolution();
         return result;
     }
 
@@ -262,21 +380,22 @@ public class TreeNode {
      * @return true if the schedule is preemptive, false otherwise
      */
     boolean isPreemptive() {
-        if (lowerBound == -1)
-            calculateLowerBound();
         return isPreemptive;
     }
 
     /**
-     * Update the solution with non preemptive schedule
+     * Build the solution given by the non preemptive schedule
+     * The jobs not in the partial solution are scheduled in the order of the relaxed sequence,
+     * each one as soon as it is released and the machine is free
+     * @return the solution
      */
-    void getNotPreemptiveSchedule() {
-        for (int i = 0; i < schedule.length; i++) {
-            if (schedule[i] >= 1) {
-                int jobId = i+1;
-                int startInstant = schedule[i]-1;
-                partialSolution.processAndScheduleJob(jobId, startInstant);
-            }
+    Solution getNotPreemptiveSchedule() {
+        Solution solution = toSolution();
+        for (int i = relaxedSequenceStart; i < relaxedSequenceEnd; i++) {
+            int jobId = relaxedSequence[i];
+            int startInstant = Math.max(solution.makeSpan(), context.getReleaseTime(jobId));
+            solution.processAndScheduleJob(jobId, startInstant);
         }
+        return solution;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,368 @@
+package branch_and_bound;
+
+/* Apache POI dependencies */
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackageRelationship;
+import org.apache.poi.openxml4j.opc.PackageRelationshipTypes;
+import org.apache.poi.openxml4j.opc.PackagingURIHelper;
+
+/* Java dependencies */
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * This class reads the instances of a xlsx file, one sheet at a time
+ *
+ * The sheets are parsed as a stream of SAX events, without building the workbook in memory:
+ * the cells are handed to an InstanceParser in the order of the rows, and each instance
+ * is returned as soon as its sheet has been parsed
+ * Only the shared strings (the text of the cells) are kept in memory
+ */
+public class XlsxInstanceReader implements InstanceSource {
+    /**
+     * The namespace of the relationships in the workbook part
+     */
+    private static final String RELATIONSHIPS_NAMESPACE =
+            "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    /**
+     * The relationship type of the shared strings part
+     */
+    private static final String SHARED_STRINGS_RELATIONSHIP =
+            "http://schemas.openxmlformats.org/officeDocument/2006/relationships/sharedStrings";
+
+    /**
+     * The xlsx package
+     */
+    private final OPCPackage xlsxPackage;
+
+    /**
+     * The workbook part of the package
+     */
+    private final PackagePart workbookPart;
+
+    /**
+     * The names of the sheets, in the order of the workbook
+     */
+    private final List<String> sheetNames = new ArrayList<>();
+
+    /**
+     * The ids of the relationships of the sheets, in the order of the workbook
+     */
+    private final List<String> sheetRelationshipIds = new ArrayList<>();
+
+    /**
+     * The shared strings of the workbook
+     */
+    private final List<String> sharedStrings = new ArrayList<>();
+
+    /**
+     * The factory of the SAX parsers
+     */
+    private final SAXParserFactory parserFactory;
+
+    /**
+     * Open a xlsx file and read the list of its sheets
+     * @param filename the name of the file
+     * @throws IOException if the file cannot be read
+     */
+    public XlsxInstanceReader(String filename) throws IOException {
+        parserFactory = SAXParserFactory.newInstance();
+        parserFactory.setNamespaceAware(true);
+        try {
+            parserFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        } catch (ParserConfigurationException | SAXException e) {
+            // The parser does not support the feature
+        }
+
+        try {
+            xlsxPackage = OPCPackage.open(filename, PackageAccess.READ);
+        } catch (InvalidFormatException e) {
+            throw new IOException("Invalid xlsx file " + filename, e);
+        }
+        try {
+            // Get the workbook part
+            PackageRelationship document = xlsxPackage
+                    .getRelationshipsByType(PackageRelationshipTypes.CORE_DOCUMENT).getRelationship(0);
+            workbookPart = xlsxPackage.getPart(document);
+
+            // Read the list of the sheets
+            parse(workbookPart, new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                    if (localName.equals("sheet")) {
+                        sheetNames.add(attributes.getValue("name"));
+                        sheetRelationshipIds.add(attributes.getValue(RELATIONSHIPS_NAMESPACE, "id"));
+                    }
+                }
+            });
+
+            // Read the shared strings
+            for (PackageRelationship relationship : workbookPart.getRelationshipsByType(SHARED_STRINGS_RELATIONSHIP)) {
+                parse(getTargetPart(relationship), new SharedStringsHandler());
+            }
+        } catch (IOException | RuntimeException e) {
+            xlsxPackage.revert();
+            throw e;
+        } catch (InvalidFormatException e) {
+            xlsxPackage.revert();
+            throw new IOException("Invalid xlsx file " + filename, e);
+        }
+    }
+
+    /**
+     * Get the number of instances (i.e. the number of sheets)
+     * @return the number of instances
+     */
+    public int getNumberOfInstances() {
+        return sheetNames.size();
+    }
+
+    /**
+     * Get an iterator over the instances, in the order of the sheets
+     * Each sheet is parsed when the corresponding instance is requested
+     * @return the iterator
+     */
+    @Override
+    public Iterator<Instance> iterator() {
+        return new Iterator<Instance>() {
+            /**
+             * The index of the next sheet
+             */
+            private int nextSheet = 0;
+
+            @Override
+            public boolean hasNext() {
+                return nextSheet < sheetNames.size();
+            }
+
+            @Override
+            public Instance next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return readSheet(nextSheet++);
+            }
+        };
+    }
+
+    /**
+     * Close the xlsx file
+     */
+    @Override
+    public void close() {
+        // The package is opened read only: nothing has to be saved
+        xlsxPackage.revert();
+    }
+
+    /**
+     * Parse a sheet and build its instance
+     * @param index the index of the sheet
+     * @return the instance, or null if the sheet does not contain an instance
+     */
+    private Instance readSheet(int index) {
+        String name = sheetNames.get(index);
+        InstanceParser instanceParser = new InstanceParser(name);
+        try {
+            PackageRelationship relationship = workbookPart.getRelationship(sheetRelationshipIds.get(index));
+            parse(getTargetPart(relationship), new SheetHandler(instanceParser));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read sheet " + name, e);
+        } catch (InvalidFormatException e) {
+            throw new UncheckedIOException(new IOException("Invalid sheet " + name, e));
+        }
+        return instanceParser.getInstance();
+    }
+
+    /**
+     * Get the part which is the target of a relationship of the workbook
+     * @param relationship the relationship
+     * @return the part
+     * @throws InvalidFormatException if the target is not a valid part name
+     */
+    private PackagePart getTargetPart(PackageRelationship relationship) throws InvalidFormatException {
+        return xlsxPackage.getPart(PackagingURIHelper.createPartName(
+                PackagingURIHelper.resolvePartUri(workbookPart.getPartName().getURI(), relationship.getTargetURI())));
+    }
+
+    /**
+     * Parse the XML content of a part
+     * @param part the part
+     * @param handler the handler of the SAX events
+     * @throws IOException if the part cannot be read or parsed
+     */
+    private void parse(PackagePart part, DefaultHandler handler) throws IOException {
+        try (InputStream stream = part.getInputStream()) {
+            SAXParser parser = parserFactory.newSAXParser();
+            parser.parse(stream, handler);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Cannot parse " + part.getPartName(), e);
+        }
+    }
+
+    /**
+     * Handler of the shared strings part
+     * A shared string is the concatenation of the texts of its runs,
+     * the phonetic runs are ignored
+     */
+    private class SharedStringsHandler extends DefaultHandler {
+        private final StringBuilder text = new StringBuilder();
+
+        private boolean inText = false;
+
+        private boolean inPhoneticRun = false;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "si":
+                    text.setLength(0);
+                    break;
+                case "rPh":
+                    inPhoneticRun = true;
+                    break;
+                case "t":
+                    inText = !inPhoneticRun;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "si":
+                    sharedStrings.add(text.toString());
+                    break;
+                case "rPh":
+                    inPhoneticRun = false;
+                    break;
+                case "t":
+                    inText = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText) {
+                text.append(ch, start, length);
+            }
+        }
+    }
+
+    /**
+     * Handler of a sheet part
+     * The text and numeric cells are handed to the instance parser,
+     * the other cells (blank, boolean, error and formula cells) are ignored
+     */
+    private class SheetHandler extends DefaultHandler {
+        private final InstanceParser instanceParser;
+
+        private final StringBuilder value = new StringBuilder();
+
+        /**
+         * The type of the current cell ("n" if not specified)
+         */
+        private String cellType;
+
+        /**
+         * True if the current cell contains a formula
+         */
+        private boolean isFormula;
+
+        private boolean inValue = false;
+
+        private SheetHandler(InstanceParser instanceParser) {
+            this.instanceParser = instanceParser;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "c":
+                    cellType = attributes.getValue("t");
+                    if (cellType == null) {
+                        cellType = "n";
+                    }
+                    isFormula = false;
+                    value.setLength(0);
+                    break;
+                case "f":
+                    isFormula = true;
+                    break;
+                case "v":
+                    inValue = true;
+                    break;
+                case "t":
+                    // Text of an inline string
+                    inValue = cellType.equals("inlineStr");
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v":
+                case "t":
+                    inValue = false;
+                    break;
+                case "c":
+                    parseCell();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue) {
+                value.append(ch, start, length);
+            }
+        }
+
+        /**
+         * Hand the current cell to the instance parser
+         */
+        private void parseCell() {
+            if (isFormula || value.length() == 0) {
+                return;
+            }
+            switch (cellType) {
+                case "s":
+                    instanceParser.parseString(sharedStrings.get(Integer.parseInt(value.toString().trim())));
+                    break;
+                case "inlineStr":
+                    instanceParser.parseString(value.toString());
+                    break;
+                case "n":
+                    instanceParser.parseNumber(Double.parseDouble(value.toString().trim()));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}